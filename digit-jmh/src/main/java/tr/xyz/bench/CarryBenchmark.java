@@ -0,0 +1,42 @@
+package tr.xyz.bench;
+
+import org.openjdk.jmh.annotations.*;
+import tr.xyz.times.TimeDigit;
+import tr.xyz.times.Times;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The worst case carry of a {@link Times}: one millisecond cycles every digit up to the year.
+ * Each invocation does the full cascade twice, forwards and backwards, so the time stays the same.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CarryBenchmark {
+	
+	private TimeDigit     millisecond;
+	private LocalDateTime localTime;
+	
+	@Setup
+	public void setup() {
+		millisecond = Times.of(2023, 12, 30, 23, 59, 59, 999).getMillisecond();
+		localTime   = LocalDateTime.of(2023, 12, 31, 23, 59, 59, 999_000_000);
+	}
+	
+	@Benchmark
+	public TimeDigit fullCascade() {
+		millisecond.increment();
+		millisecond.decrement();
+		return millisecond;
+	}
+	
+	@Benchmark
+	public LocalDateTime baselineFullCascade() {
+		return localTime.plusNanos(1_000_000).minusNanos(1_000_000);
+	}
+}
@@ -0,0 +1,62 @@
+package tr.xyz.bench;
+
+import org.openjdk.jmh.annotations.*;
+import tr.xyz.digit.DigitArrays;
+import tr.xyz.digit.DigitMath;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DigitArrays#wrap(long[], long, long, long[], long[])} of an array of seconds, with the given percent out of the range.
+ * The scalar loop runs in the default fork, the Vector API loop in a fork with the {@code jdk.incubator.vector} module.
+ * {@link DigitMath} per element is the baseline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DigitArraysBenchmark {
+	
+	@Param({"0", "10", "100"})
+	public int outOfRangePercent;
+	
+	private long[] values;
+	private long[] valuesOut;
+	private long[] cycleCounts;
+	
+	@Setup
+	public void setup() {
+		var random = new Random(42);
+		values      = new long[4096];
+		valuesOut   = new long[values.length];
+		cycleCounts = new long[values.length];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = random.nextInt(100) < outOfRangePercent ? random.nextInt(1_000_000) - 500_000 : random.nextInt(60);
+		}
+	}
+	
+	@Benchmark
+	public long[] wrapScalar() {
+		DigitArrays.wrap(values, 0, 59, valuesOut, cycleCounts);
+		return valuesOut;
+	}
+	
+	@Benchmark
+	@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+	public long[] wrapVector() {
+		DigitArrays.wrap(values, 0, 59, valuesOut, cycleCounts);
+		return valuesOut;
+	}
+	
+	@Benchmark
+	public long[] baselineDigitMath() {
+		for (int i = 0; i < values.length; i++) {
+			valuesOut[i]   = DigitMath.wrap(values[i], 0, 59);
+			cycleCounts[i] = DigitMath.cycles(values[i], 0, 59);
+		}
+		return valuesOut;
+	}
+}
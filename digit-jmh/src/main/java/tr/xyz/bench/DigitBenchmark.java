@@ -0,0 +1,42 @@
+package tr.xyz.bench;
+
+import org.openjdk.jmh.annotations.*;
+import tr.xyz.digit.Digit;
+
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Digit#plus(long)} with a step that stays in the range, cycles once and cycles many times.
+ * {@link LocalTime#plusSeconds(long)} is the {@code java.time} baseline of the same operation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DigitBenchmark {
+	
+	@Param({"1", "59", "3600"})
+	public long step;
+	
+	private Digit     seconds;
+	private LocalTime time;
+	
+	@Setup
+	public void setup() {
+		seconds = Digit.of(30, 0, 59);
+		time    = LocalTime.of(0, 0, 30);
+	}
+	
+	@Benchmark
+	public Digit simpleDigitPlus() {
+		return seconds.plus(step);
+	}
+	
+	@Benchmark
+	public LocalTime baselineLocalTimePlusSeconds() {
+		return time.plusSeconds(step);
+	}
+}
@@ -0,0 +1,40 @@
+package tr.xyz.bench;
+
+import org.openjdk.jmh.annotations.*;
+import tr.xyz.durations.Duration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Duration#plus(long)} against {@link java.time.Duration#plusSeconds(long)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DurationBenchmark {
+	
+	@Param({"1", "100000"})
+	public long amount;
+	
+	private Duration           seconds;
+	private java.time.Duration duration;
+	
+	@Setup
+	public void setup() {
+		seconds  = Duration.ofSeconds(30);
+		duration = java.time.Duration.ofSeconds(30);
+	}
+	
+	@Benchmark
+	public Duration durationPlus() {
+		return seconds.plus(amount);
+	}
+	
+	@Benchmark
+	public java.time.Duration baselineJavaTimeDurationPlus() {
+		return duration.plusSeconds(amount);
+	}
+}
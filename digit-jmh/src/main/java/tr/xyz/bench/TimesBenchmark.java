@@ -0,0 +1,115 @@
+package tr.xyz.bench;
+
+import org.openjdk.jmh.annotations.*;
+import tr.xyz.durations.Duration;
+import tr.xyz.times.Times;
+import tr.xyz.times.TimesFormatter;
+
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Times} arithmetic, creation and formatting.
+ * Each benchmark has a {@code baseline} pair doing the equivalent {@code java.time} operation on {@link LocalDateTime}.
+ * <p>
+ * {@code days} is the distance between the two times used by {@code between},
+ * and it is also the amount of days added by {@code plusDuration}.
+ * {@code plusTimes} adds the digits of {@code 0-1-1 01:01:01:001}, one month, one day, one hour, one minute,
+ * one second and one millisecond, the same amounts are added to the {@code LocalDateTime}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TimesBenchmark {
+	
+	@Param({"0", "1", "10000"})
+	public long days;
+	
+	private Times         time;
+	private Times         other;
+	private Times         delta;
+	private Duration      duration;
+	private LocalDateTime localTime;
+	private LocalDateTime localOther;
+	
+	private final StringBuilder builder = new StringBuilder(TimesFormatter.MAX_LENGTH);
+	
+	@Setup
+	public void setup() {
+		time       = Times.of(2024, 5, 6, 14, 50, 30, 500);
+		duration   = Duration.ofDays(days);
+		other      = time.plus(duration);
+		delta      = Times.of(0, 1, 1, 1, 1, 1, 1);
+		localTime  = LocalDateTime.of(2024, 5, 6, 14, 50, 30, 500_000_000);
+		localOther = localTime.plusDays(days);
+		// Both sides of the pair must do the same work
+		if (!plusTimes().toLocalDateTime().equals(baselinePlusTimes())) {
+			throw new IllegalStateException("plusTimes " + plusTimes() + " is not the baseline " + baselinePlusTimes());
+		}
+	}
+	
+	@Benchmark
+	public Times plusTimes() {
+		return time.plus(delta);
+	}
+	
+	@Benchmark
+	public LocalDateTime baselinePlusTimes() {
+		return localTime.plusMonths(1).plusDays(1).plusHours(1).plusMinutes(1).plusSeconds(1).plusNanos(1_000_000);
+	}
+	
+	@Benchmark
+	public Times plusDuration() {
+		return time.plus(duration);
+	}
+	
+	@Benchmark
+	public LocalDateTime baselinePlusDuration() {
+		return localTime.plusDays(days);
+	}
+	
+	@Benchmark
+	public Times between() {
+		return time.between(other);
+	}
+	
+	@Benchmark
+	public Object[] baselineBetween() {
+		return new Object[]{Period.between(localTime.toLocalDate(), localOther.toLocalDate()), java.time.Duration.between(localTime, localOther)};
+	}
+	
+	@Benchmark
+	public Times now() {
+		return Times.now();
+	}
+	
+	@Benchmark
+	public Times nowFast() {
+		return Times.nowFast();
+	}
+	
+	@Benchmark
+	public LocalDateTime baselineNow() {
+		return LocalDateTime.now();
+	}
+	
+	@Benchmark
+	public String timesToString() {
+		return time.toString();
+	}
+	
+	@Benchmark
+	public StringBuilder formatToBuilder() {
+		builder.setLength(0);
+		return TimesFormatter.format(time, builder);
+	}
+	
+	@Benchmark
+	public String baselineToString() {
+		return localTime.toString();
+	}
+}
@@ -25,6 +25,9 @@ import org.jetbrains.annotations.NotNull;
  * {@snippet lang = java:
  * Digit april = months.plus(3);
  *}
+ * <p>
+ * Digits of the ranges registered to {@link DigitCache} are not created again,
+ * the same instance is returned for the same value.
  *
  * @author hsyn 1 May 2024
  */
@@ -73,7 +76,7 @@ public interface Digit {
      */
     @NotNull
     static Digit range(long min, long max) {
-        return new SimpleDigit(min, min, max);
+        return DigitCache.valueOf(min, min, max);
     }
 
     /**
@@ -86,7 +89,7 @@ public interface Digit {
      */
     @NotNull
     static Digit of(long value, long min, long max) {
-        return new SimpleDigit(value, min, max);
+        return DigitCache.valueOf(value, min, max);
     }
 
     /**
@@ -98,7 +101,7 @@ public interface Digit {
      */
     @NotNull
     static Digit of(long min, long max) {
-        return new SimpleDigit(min, min, max);
+        return DigitCache.valueOf(min, min, max);
     }
 
     /**
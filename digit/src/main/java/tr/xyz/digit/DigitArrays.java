@@ -0,0 +1,105 @@
+package tr.xyz.digit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+
+/**
+ * Bulk {@link Digit} cycling over primitive arrays.
+ * <p>
+ * Each value of the source array is cycled into the range of {@code min} and {@code max}
+ * like {@link SimpleDigit} does, and the value and the cycle count are written
+ * into the caller-provided output arrays, without creating a digit per element.
+ * <br>
+ * {@snippet lang = java:
+ * long[] offsets = {-1, 0, 59, 60, 125};
+ * long[] values  = new long[offsets.length];
+ * long[] cycles  = new long[offsets.length];
+ * DigitArrays.wrap(offsets, 0, 59, values, cycles);
+ * // values : 59, 0, 59, 0, 5
+ * // cycles : -1, 0,  0, 1, 2
+ *}
+ * <p>
+ * The range constants are computed once per call, and each out of range element costs a single division.
+ * Elements already in the range are copied as they are, so the loop stays simple for the JIT.
+ * When the {@code jdk.incubator.vector} module is present, the range check is done for a whole vector of elements
+ * and only the out of range elements are cycled one by one, otherwise a scalar loop is used.
+ */
+public final class DigitArrays {
+
+	private static final Kernel KERNEL = loadKernel();
+
+	private DigitArrays() {}
+
+	/**
+	 * Cycles all values of the given array into the range of {@code min} and {@code max}.
+	 *
+	 * @param values       the values to cycle
+	 * @param min          minimum value (inclusive)
+	 * @param max          maximum value (inclusive)
+	 * @param valuesOut    the array to write the cycled values, can be the {@code values} array itself
+	 * @param cycleCounts  the array to write the cycle counts, or {@code null} if not needed
+	 */
+	public static void wrap(long @NotNull [] values, long min, long max, long @NotNull [] valuesOut, long[] cycleCounts) {
+		wrap(values, 0, values.length, min, max, valuesOut, cycleCounts);
+	}
+
+	/**
+	 * Cycles the values of the given array from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive)
+	 * into the range of {@code min} and {@code max}.
+	 * The results are written to the same indexes of the output arrays.
+	 *
+	 * @param values      the values to cycle
+	 * @param fromIndex   the first index (inclusive)
+	 * @param toIndex     the last index (exclusive)
+	 * @param min         minimum value (inclusive)
+	 * @param max         maximum value (inclusive)
+	 * @param valuesOut   the array to write the cycled values, can be the {@code values} array itself
+	 * @param cycleCounts the array to write the cycle counts, or {@code null} if not needed
+	 */
+	public static void wrap(long @NotNull [] values, int fromIndex, int toIndex, long min, long max, long @NotNull [] valuesOut, long[] cycleCounts) {
+		if (min < Digit.MIN) throw new IllegalArgumentException("Minimum value cannot be less than " + Digit.MIN);
+		if (max > Digit.MAX) throw new IllegalArgumentException("Maximum value cannot be greater than " + Digit.MAX);
+		if (min > max) throw new IllegalArgumentException("Minimum value cannot be greater than maximum value.");
+		Objects.checkFromToIndex(fromIndex, toIndex, values.length);
+		Objects.checkFromToIndex(fromIndex, toIndex, valuesOut.length);
+		if (cycleCounts != null) Objects.checkFromToIndex(fromIndex, toIndex, cycleCounts.length);
+
+		KERNEL.wrap(values, fromIndex, toIndex, min, max, valuesOut, cycleCounts);
+	}
+
+	/**
+	 * The loop over the checked arguments of {@link #wrap(long[], int, int, long, long, long[], long[])}.
+	 */
+	interface Kernel {
+		void wrap(long[] values, int fromIndex, int toIndex, long min, long max, long[] valuesOut, long[] cycleCounts);
+	}
+
+	private static Kernel loadKernel() {
+		// The Vector API class is linked only if the module is in the boot layer, e.g. with --add-modules jdk.incubator.vector
+		if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return DigitArrays::wrapScalar;
+		try {
+			return (Kernel) Class.forName("tr.xyz.digit.VectorDigitArrays").getDeclaredConstructor().newInstance();
+		}
+		catch (ReflectiveOperationException | LinkageError e) {
+			return DigitArrays::wrapScalar;
+		}
+	}
+
+	static void wrapScalar(long[] values, int fromIndex, int toIndex, long min, long max, long[] valuesOut, long[] cycleCounts) {
+		final long range  = (max - min) + 1;
+		final long minDiv = Math.floorDiv(min, range);
+		final long minMod = min - minDiv * range;
+
+		for (int i = fromIndex; i < toIndex; i++) {
+			long value = values[i];
+			long cycle = 0L;
+			if (value < min || value > max) {
+				cycle = DigitMath.outOfRangeCycles(value, range, minDiv, minMod);
+				value -= cycle * range;
+			}
+			valuesOut[i] = value;
+			if (cycleCounts != null) cycleCounts[i] = cycle;
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package tr.xyz.digit;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Canonical {@link SimpleDigit} instances of the registered small ranges, like {@link Integer#valueOf(int)}.
+ * <p>
+ * When a range is registered, one immutable digit is created for each value of the range,
+ * and {@link #valueOf(long, long, long)} returns these instances instead of creating new ones.
+ * Only values in the range are cached, because a cycled value has a cycle count that is different from zero.
+ * <br>
+ * {@snippet lang = java:
+ * DigitCache.register(0, 59);
+ * Digit.of(30, 0, 59) == Digit.of(30, 0, 59); // true
+ *}
+ * <p>
+ * The total number of the cached digits is limited by {@link #BUDGET}.
+ * It can be set with the {@code tr.xyz.digit.cache.budget} system property (default {@code 4096}).
+ * A range that does not fit the remaining budget is not registered.
+ * <p>
+ * The hit and miss counters are disabled by default, so {@link #valueOf(long, long, long)} does not write to shared memory.
+ * They can be enabled with {@link #setStatisticsEnabled(boolean)} or the system property
+ * {@code tr.xyz.digit.cache.statistics=true}.
+ */
+public final class DigitCache {
+	/**
+	 * The maximum number of digits that can be cached for all ranges.
+	 */
+	public static final int BUDGET = Integer.getInteger("tr.xyz.digit.cache.budget", 4096);
+
+	private static final LongAdder HITS   = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
+
+	private static volatile boolean statistics = Boolean.getBoolean("tr.xyz.digit.cache.statistics");
+
+	private static volatile Range[] ranges = new Range[0];
+	/**
+	 * Set when the first range is registered, a stale {@code false} only creates a new digit instead of using the cache.
+	 */
+	private static          boolean registered;
+	private static          int     used;
+
+	private DigitCache() {}
+
+	/**
+	 * Registers the given range to cache.
+	 *
+	 * @param min minimum value (inclusive)
+	 * @param max maximum value (inclusive)
+	 * @return {@code true} if the range is cached, {@code false} if it does not fit the budget
+	 */
+	public static synchronized boolean register(long min, long max) {
+		if (min > max) throw new IllegalArgumentException("Minimum value cannot be greater than maximum value.");
+		if (find(min, max) != null) return true;
+		long size = (max - min) + 1;
+		if (size <= 0 || size > BUDGET - used) return false;
+
+		var digits = new SimpleDigit[(int) size];
+		for (int i = 0; i < digits.length; i++) digits[i] = new SimpleDigit(min + i, min, max);
+
+		var current = ranges;
+		var next    = new Range[current.length + 1];
+		System.arraycopy(current, 0, next, 0, current.length);
+		next[current.length] = new Range(min, max, digits);
+		used += digits.length;
+		ranges     = next;
+		registered = true;
+		return true;
+	}
+
+	/**
+	 * Returns the cached digit if the range is registered and the value is in the range,
+	 * otherwise creates a new one.
+	 *
+	 * @param value value of the digit
+	 * @param min   minimum value (inclusive)
+	 * @param max   maximum value (inclusive)
+	 * @return the digit
+	 */
+	@NotNull
+	public static SimpleDigit valueOf(long value, long min, long max) {
+		if (registered && value >= min && value <= max) {
+			var range = find(min, max);
+			if (range != null) {
+				if (statistics) HITS.increment();
+				return range.digits[(int) (value - min)];
+			}
+		}
+		if (statistics) MISSES.increment();
+		return new SimpleDigit(value, min, max);
+	}
+
+	private static Range find(long min, long max) {
+		for (Range range : ranges) {
+			if (range.min == min && range.max == max) return range;
+		}
+		return null;
+	}
+
+	/**
+	 * Enables or disables the hit and miss counters, the counters keep their values when they are disabled.
+	 *
+	 * @param enabled {@code true} to count the calls
+	 */
+	public static void setStatisticsEnabled(boolean enabled) {
+		statistics = enabled;
+	}
+
+	/**
+	 * @return {@code true} if the hit and miss counters are enabled
+	 */
+	public static boolean isStatisticsEnabled() {
+		return statistics;
+	}
+
+	/**
+	 * @return the number of the calls returned a cached digit
+	 */
+	public static long hits() {
+		return HITS.sum();
+	}
+
+	/**
+	 * @return the number of the calls created a new digit
+	 */
+	public static long misses() {
+		return MISSES.sum();
+	}
+
+	/**
+	 * @return the number of the cached digits
+	 */
+	public static synchronized int size() {
+		return used;
+	}
+
+	/**
+	 * Resets the hit and miss counters.
+	 */
+	public static void resetStatistics() {
+		HITS.reset();
+		MISSES.reset();
+	}
+
+	private record Range(long min, long max, SimpleDigit[] digits) {}
+}
@@ -0,0 +1,83 @@
+package tr.xyz.digit;
+
+/**
+ * Primitive arithmetic of the {@link Digit} cycling.
+ * <p>
+ * A value out of the range {@code [min, max]} is cycled into the range
+ * and the number of the cycles is counted.
+ * The cycle count is negative if the value is cycled from the minimum limit,
+ * positive if it is cycled from the maximum limit.
+ * <br>
+ * {@snippet lang = java:
+ * DigitMath.wrap(0, 1, 12);    // 12
+ * DigitMath.cycles(0, 1, 12);  // -1
+ * DigitMath.wrap(25, 1, 12);   // 1
+ * DigitMath.cycles(25, 1, 12); // 2
+ *}
+ * <p>
+ * The methods never allocate and never overflow for any {@code value},
+ * as long as {@code min} and {@code max} are in {@link Digit#MIN} and {@link Digit#MAX}
+ * and {@code min <= max}.
+ */
+public final class DigitMath {
+
+	private DigitMath() {}
+
+	/**
+	 * Cycles the given value into the range of {@code min} and {@code max}.
+	 *
+	 * @param value the value to cycle
+	 * @param min   minimum value (inclusive)
+	 * @param max   maximum value (inclusive)
+	 * @return the cycled value
+	 */
+	public static long wrap(long value, long min, long max) {
+		if (value >= min && value <= max) return value;
+		long range = (max - min) + 1;
+		return value - outOfRangeCycles(value, range, Math.floorDiv(min, range), Math.floorMod(min, range)) * range;
+	}
+
+	/**
+	 * Returns the number of cycles needed to bring the given value into the range of {@code min} and {@code max}.
+	 * It is the {@code floor((value - min) / range)}.
+	 *
+	 * @param value the value to cycle
+	 * @param min   minimum value (inclusive)
+	 * @param max   maximum value (inclusive)
+	 * @return the cycle count
+	 */
+	public static long cycles(long value, long min, long max) {
+		if (value >= min && value <= max) return 0L;
+		long range = (max - min) + 1;
+		return outOfRangeCycles(value, range, Math.floorDiv(min, range), Math.floorMod(min, range));
+	}
+
+	/**
+	 * The cycling kernel shared by this class and {@link DigitArrays}, returns the cycle count of a value out of the range.
+	 * The cycled value is {@code value - cycles * range}, the product may overflow but the difference is exact.
+	 *
+	 * @param value  the value to cycle
+	 * @param range  the size of the range, {@code max - min + 1}
+	 * @param minDiv {@code Math.floorDiv(min, range)}, computed once for many values
+	 * @param minMod {@code Math.floorMod(min, range)}, computed once for many values
+	 * @return the cycle count
+	 */
+	static long outOfRangeCycles(long value, long range, long minDiv, long minMod) {
+		long div = Math.floorDiv(value, range);
+		return value - div * range < minMod ? div - minDiv - 1 : div - minDiv;
+	}
+
+	/**
+	 * Returns the hash code of a {@link Digit} with the given value and range.
+	 * It is the same value of {@code Objects.hash(value, min, max)} without boxing,
+	 * all implementations use it so the equal digits of different classes have the same hash code.
+	 *
+	 * @param value the value
+	 * @param min   minimum value (inclusive)
+	 * @param max   maximum value (inclusive)
+	 * @return the hash code
+	 */
+	public static int hash(long value, long min, long max) {
+		return ((31 + Long.hashCode(value)) * 31 + Long.hashCode(min)) * 31 + Long.hashCode(max);
+	}
+}
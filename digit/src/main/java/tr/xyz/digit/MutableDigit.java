@@ -0,0 +1,115 @@
+package tr.xyz.digit;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * {@code MutableDigit} is a {@link Digit} that changes its own value.
+ * <p>
+ * It has the same range and cycle semantics of {@link SimpleDigit},
+ * but all operations update this object and return it, so no object is created per operation.
+ * The cycle count is the cycle count of the last operation.
+ * <br>
+ * {@snippet lang = java:
+ * var counter = new MutableDigit(0, 0, 59);
+ * for (int i = 0; i < 61; i++) counter.increment();
+ * counter.getValue();      // 1
+ * counter.getCycleCount(); // 0, the last increment did not cycle
+ * Digit snapshot = counter.freeze(); // Immutable copy
+ *}
+ * <p>
+ * It is not thread-safe.
+ */
+@Getter
+public class MutableDigit implements Digit {
+
+	private final long min;
+	private final long max;
+	private final long range;
+	private       long value;
+	private       long cycleCount;
+
+	public MutableDigit(long value) {
+		this(value, Digit.MIN, Digit.MAX);
+	}
+
+	public MutableDigit(long value, long min, long max) {
+		if (min < Digit.MIN) throw new IllegalArgumentException("Minimum value cannot be less than " + Digit.MIN);
+		if (max > Digit.MAX) throw new IllegalArgumentException("Maximum value cannot be greater than " + Digit.MAX);
+		if (min > max) throw new IllegalArgumentException("Minimum value cannot be greater than maximum value.");
+		this.min   = min;
+		this.max   = max;
+		this.range = (max - min) + 1;
+		set(value);
+	}
+
+	/**
+	 * Creates a new {@code MutableDigit} with the value, minimum and maximum of the given digit.
+	 *
+	 * @param digit the digit to copy
+	 * @return new {@code MutableDigit}
+	 */
+	@NotNull
+	public static MutableDigit of(@NotNull Digit digit) {
+		return new MutableDigit(digit.getValue(), digit.getMin(), digit.getMax());
+	}
+
+	/**
+	 * Sets the value of this digit. The value will be cycled if it is not in the range.
+	 *
+	 * @param value the new value
+	 * @return this digit
+	 */
+	@NotNull
+	public MutableDigit set(long value) {
+		this.value      = DigitMath.wrap(value, min, max);
+		this.cycleCount = DigitMath.cycles(value, min, max);
+		return this;
+	}
+
+	/**
+	 * Returns an immutable copy of this digit.
+	 *
+	 * @return new {@link SimpleDigit} with the current value
+	 */
+	@NotNull
+	public SimpleDigit freeze() {
+		return new SimpleDigit(value, min, max);
+	}
+
+	@Override
+	public @NotNull MutableDigit increment() {
+		return set(value + 1);
+	}
+
+	@Override
+	public @NotNull MutableDigit decrement() {
+		return set(value - 1);
+	}
+
+	@Override
+	public @NotNull MutableDigit plus(long plus) {
+		return set(value + plus);
+	}
+
+	@Override
+	public @NotNull MutableDigit minus(long minus) {
+		return set(value - minus);
+	}
+
+	@NotNull
+	@Override
+	public String toString() {
+		return Long.toString(value);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof Digit digit && digit.getValue() == value && digit.getMin() == min && digit.getMax() == max;
+	}
+
+	@Override
+	public int hashCode() {
+		return DigitMath.hash(value, min, max);
+	}
+}
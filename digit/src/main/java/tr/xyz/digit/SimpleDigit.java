@@ -3,8 +3,6 @@ package tr.xyz.digit;
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Objects;
-
 @Getter
 public class SimpleDigit implements Digit {
 	
@@ -23,9 +21,8 @@ public class SimpleDigit implements Digit {
 		this.max = checkMaxLimit(max);
 		if (min > max) throw new IllegalArgumentException("Minimum value cannot be greater than maximum value.");
 		this.range = (max - min) + 1;
-		var r = computeValue(value);
-		this.value      = r[0];
-		this.cycleCount = r[1];
+		this.value      = DigitMath.wrap(value, min, max);
+		this.cycleCount = DigitMath.cycles(value, min, max);
 	}
 	
 	private long checkMinLimit(long min) {
@@ -38,46 +35,16 @@ public class SimpleDigit implements Digit {
 		throw new IllegalArgumentException("Maximum value cannot be less than " + Digit.MAX);
 	}
 	
-	protected final long @NotNull [] computeValue(long value) {
-		final var result = new long[]{value, 0};
-		if (isInRange(value)) {
-			return result;
-		}
-		if (value < min) {
-			var interval = min - value;
-			if (interval <= range) {
-				result[0] = (max - interval) + 1;
-				result[1] = -1;
-			}
-			else {
-				result[0] = ((max + 1) - range % interval);
-				result[1] = -(interval / range);
-			}
-		}
-		else {
-			var interval = value - max;
-			if (interval <= range) {
-				result[0] = (min + interval) - 1;
-				result[1] = 1;
-			}
-			else {
-				result[0] = (min + interval % range) - 1;
-				result[1] = value / range;
-			}
-		}
-		return result;
-	}
-	
 	@NotNull
 	@Override
 	public Digit decrement() {
-		return new SimpleDigit(value - 1, min, max);
+		return DigitCache.valueOf(value - 1, min, max);
 	}
 	
 	@NotNull
 	@Override
 	public Digit increment() {
-		return new SimpleDigit(value + 1, min, max);
+		return DigitCache.valueOf(value + 1, min, max);
 	}
 	
 	@NotNull
@@ -88,21 +55,21 @@ public class SimpleDigit implements Digit {
 	
 	@Override
 	public @NotNull Digit plus(long plus) {
-		return new SimpleDigit(value + plus, min, max);
+		return DigitCache.valueOf(value + plus, min, max);
 	}
 	
 	@Override
 	public @NotNull Digit minus(long minus) {
-		return new SimpleDigit(value - minus, min, max);
+		return DigitCache.valueOf(value - minus, min, max);
 	}
 	
 	@Override
 	public boolean equals(Object obj) {
-		return obj instanceof Digit digit && digit.getValue() == value && digit.getMin() == min && digit.getMax() == max;
+		return obj instanceof Digit digit && digit.getValue() == getValue() && digit.getMin() == min && digit.getMax() == max;
 	}
 	
 	@Override
 	public int hashCode() {
-		return Objects.hash(value, min, max);
+		return DigitMath.hash(getValue(), min, max);
 	}
 }
@@ -0,0 +1,20 @@
+package tr.xyz.durations;
+
+abstract class AbstractDuration implements Duration {
+	
+	@Override
+	public int hashCode() {
+		return 31 * getUnit().ordinal() + Long.hashCode(getValue());
+	}
+	
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) return true;
+		return obj instanceof Duration duration && getUnit() == duration.getUnit() && getValue() == duration.getValue();
+	}
+	
+	@Override
+	public String toString() {
+		return getUnit().getSymbol() + getValue();
+	}
+}
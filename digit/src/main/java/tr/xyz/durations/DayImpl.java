@@ -0,0 +1,21 @@
+package tr.xyz.durations;
+
+import org.jetbrains.annotations.NotNull;
+
+final class DayImpl extends AbstractDuration implements Day {
+	private final long value;
+	
+	DayImpl(long value) {
+		this.value = value;
+	}
+	
+	@Override
+	public long getValue() {
+		return value;
+	}
+	
+	@Override
+	public @NotNull DurationUnit getUnit() {
+		return DurationUnit.DAY;
+	}
+}
@@ -2,8 +2,6 @@ package tr.xyz.durations;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Objects;
-
 /**
  * {@code Duration} is a holder that can be hold any {@code long} value.
  * It has no limits. Duration units:
@@ -15,6 +13,7 @@ import java.util.Objects;
  *      <li>{@link Month} can be created with {@link Duration#ofMonths(long)}</li>
  *      <li>{@link Year} can be created with {@link Duration#ofYears(long)}</li>
  * </ul>
+ * Common values of each unit are cached by {@link DurationCache}.
  */
 public interface Duration {
 	
@@ -27,19 +26,32 @@ public interface Duration {
 	 */
 	@NotNull
 	static Duration of(@NotNull Class<? extends Duration> durationClass, long value) {
-		if (durationClass == Millisecond.class) return ofMilliseconds(value);
-		else if (durationClass == Second.class) return ofSeconds(value);
-		else if (durationClass == Minute.class) return ofMinutes(value);
-		else if (durationClass == Hour.class) return ofHours(value);
-		else if (durationClass == Day.class) return ofDays(value);
-		else if (durationClass == Month.class) return ofMonths(value);
-		else if (durationClass == Year.class) return ofYears(value);
-		else throw new IllegalArgumentException();
+		return of(DurationUnit.of(durationClass), value);
+	}
+	
+	/**
+	 * Creates a new {@link Duration} instance with the given {@link DurationUnit} and {@code long} value.
+	 *
+	 * @param unit  the unit of the {@link Duration}
+	 * @param value the {@code long} value
+	 * @return the created {@link Duration}
+	 */
+	@NotNull
+	static Duration of(@NotNull DurationUnit unit, long value) {
+		return switch (unit) {
+			case MILLISECOND -> ofMilliseconds(value);
+			case SECOND -> ofSeconds(value);
+			case MINUTE -> ofMinutes(value);
+			case HOUR -> ofHours(value);
+			case DAY -> ofDays(value);
+			case MONTH -> ofMonths(value);
+			case YEAR -> ofYears(value);
+		};
 	}
 	
 	@NotNull
 	static Duration ofMilliseconds(long value) {
-		return new MillisecondImpl(value);
+		return DurationCache.millisecond(value);
 	}
 	
 	/**
@@ -50,7 +62,7 @@ public interface Duration {
 	 */
 	@NotNull
 	static Second ofSeconds(long value) {
-		return new SecondImpl(value);
+		return DurationCache.second(value);
 	}
 	
 	/**
@@ -61,7 +73,7 @@ public interface Duration {
 	 */
 	@NotNull
 	static Minute ofMinutes(long value) {
-		return new MinuteImpl(value);
+		return DurationCache.minute(value);
 	}
 	
 	/**
@@ -72,7 +84,7 @@ public interface Duration {
 	 */
 	@NotNull
 	static Hour ofHours(long value) {
-		return new HourImpl(value);
+		return DurationCache.hour(value);
 	}
 	
 	/**
@@ -83,7 +95,7 @@ public interface Duration {
 	 */
 	@NotNull
 	static Day ofDays(long value) {
-		return new DayImpl(value);
+		return DurationCache.day(value);
 	}
 	
 	/**
@@ -94,7 +106,7 @@ public interface Duration {
 	 */
 	@NotNull
 	static Month ofMonths(long value) {
-		return new MonthImpl(value);
+		return DurationCache.month(value);
 	}
 	
 	/**
@@ -105,7 +117,7 @@ public interface Duration {
 	 */
 	@NotNull
 	static Year ofYears(long value) {
-		return new YearImpl(value);
+		return DurationCache.year(value);
 	}
 	
 	/**
@@ -113,6 +125,25 @@ public interface Duration {
 	 */
 	long getValue();
 	
+	/**
+	 * Returns the unit of the {@link Duration}.
+	 * The default implementation finds the unit from the implemented unit interface, like {@link Second},
+	 * the built-in implementations return their constant unit.
+	 *
+	 * @return the unit of the {@link Duration}
+	 * @throws IllegalStateException if the {@link Duration} does not implement a unit interface
+	 */
+	@NotNull
+	default DurationUnit getUnit() {
+		if (this instanceof Millisecond) return DurationUnit.MILLISECOND;
+		else if (this instanceof Second) return DurationUnit.SECOND;
+		else if (this instanceof Minute) return DurationUnit.MINUTE;
+		else if (this instanceof Hour) return DurationUnit.HOUR;
+		else if (this instanceof Day) return DurationUnit.DAY;
+		else if (this instanceof Month) return DurationUnit.MONTH;
+		else if (this instanceof Year) return DurationUnit.YEAR;
+		else throw new IllegalStateException("Unknown duration type : " + getClass().getName());
+	}
 	
 	/**
 	 * Adds the given {@code long} value to the {@link Duration}.
@@ -120,9 +151,8 @@ public interface Duration {
 	 * @param value the {@code long} value to add
 	 * @return new {@link Duration} with the added {@code long} value
 	 */
-	@SuppressWarnings("unchecked")
 	default Duration plus(long value) {
-		return Duration.of((Class<? extends Duration>) this.getClass().getInterfaces()[0], getValue() + value);
+		return Duration.of(getUnit(), getValue() + value);
 	}
 	
 	/**
@@ -131,127 +161,7 @@ public interface Duration {
 	 * @param value the {@code long} value to subtract
 	 * @return new {@link Duration} with the subtracted {@code long} value
 	 */
-	@SuppressWarnings("unchecked")
 	default Duration minus(long value) {
-		return Duration.of((Class<? extends Duration>) this.getClass().getInterfaces()[0], getValue() - value);
-	}
-}
-
-abstract class AbstractDuration implements Duration {
-	
-	@Override
-	public int hashCode() {
-		return Objects.hashCode(getValue());
-	}
-	
-	@Override
-	public boolean equals(Object obj) {
-		if (obj == this) return true;
-		if (obj == null) return false;
-		return getClass().getInterfaces()[0] == obj.getClass().getInterfaces()[0] && getValue() == ((Duration) obj).getValue();
-	}
-	
-	@Override
-	public String toString() {
-		if (this instanceof Second) return "S" + getValue();
-		else if (this instanceof Minute) return "M" + getValue();
-		else if (this instanceof Hour) return "H" + getValue();
-		else if (this instanceof Day) return "D" + getValue();
-		else if (this instanceof Month) return "M" + getValue();
-		else if (this instanceof Year) return "Y" + getValue();
-		else return "null";
-	}
-}
-
-final class MillisecondImpl extends AbstractDuration implements Millisecond {
-	private final long value;
-	
-	MillisecondImpl(long value) {
-		this.value = value;
-	}
-	
-	@Override
-	public long getValue() {
-		return value;
-	}
-}
-
-final class SecondImpl extends AbstractDuration implements Second {
-	private final long value;
-	
-	SecondImpl(long value) {
-		this.value = value;
-	}
-	
-	@Override
-	public long getValue() {
-		return value;
+		return Duration.of(getUnit(), getValue() - value);
 	}
 }
-
-final class MinuteImpl extends AbstractDuration implements Minute {
-	private final long value;
-	
-	MinuteImpl(long value) {
-		this.value = value;
-	}
-	
-	@Override
-	public long getValue() {
-		return value;
-	}
-}
-
-final class HourImpl extends AbstractDuration implements Hour {
-	private final long value;
-	
-	HourImpl(long value) {
-		this.value = value;
-	}
-	
-	@Override
-	public long getValue() {
-		return value;
-	}
-}
-
-final class DayImpl extends AbstractDuration implements Day {
-	private final long value;
-	
-	DayImpl(long value) {
-		this.value = value;
-	}
-	
-	@Override
-	public long getValue() {
-		return value;
-	}
-}
-
-final class MonthImpl extends AbstractDuration implements Month {
-	private final long value;
-	
-	MonthImpl(long value) {
-		this.value = value;
-	}
-	
-	@Override
-	public long getValue() {
-		return value;
-	}
-}
-
-final class YearImpl extends AbstractDuration implements Year {
-	private final long value;
-	
-	YearImpl(long value) {
-		this.value = value;
-	}
-	
-	@Override
-	public long getValue() {
-		return value;
-	}
-}
-
-
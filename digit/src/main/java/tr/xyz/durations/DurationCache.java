@@ -0,0 +1,125 @@
+package tr.xyz.durations;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * Canonical {@link Duration} instances of the common values, like {@link Integer#valueOf(int)}.
+ * <p>
+ * Each unit caches the values from {@code -limit} to {@code limit} (both inclusive),
+ * where the limit is the cycle size of the unit:
+ * <ul>
+ *     <li>{@link Millisecond} {@code 1000}</li>
+ *     <li>{@link Second} {@code 60}</li>
+ *     <li>{@link Minute} {@code 60}</li>
+ *     <li>{@link Hour} {@code 24}</li>
+ *     <li>{@link Day} {@code 30}</li>
+ *     <li>{@link Month} {@code 12}</li>
+ *     <li>{@link Year} {@code 128}</li>
+ * </ul>
+ * So the cache holds a fixed number of {@code 2635} objects.
+ * The static factory methods of {@link Duration} return the cached instances for these values.
+ * <p>
+ * The hit and miss counters are disabled by default, so the factory methods do not write to shared memory.
+ * They can be enabled with {@link #setStatisticsEnabled(boolean)} or the system property
+ * {@code tr.xyz.durations.cache.statistics=true}.
+ */
+public final class DurationCache {
+
+	private static final LongAdder HITS   = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
+
+	private static volatile boolean statistics = Boolean.getBoolean("tr.xyz.durations.cache.statistics");
+
+	private static final Millisecond[] MILLISECONDS = fill(new Millisecond[2001], MillisecondImpl::new);
+	private static final Second[]      SECONDS      = fill(new Second[121], SecondImpl::new);
+	private static final Minute[]      MINUTES      = fill(new Minute[121], MinuteImpl::new);
+	private static final Hour[]        HOURS        = fill(new Hour[49], HourImpl::new);
+	private static final Day[]         DAYS         = fill(new Day[61], DayImpl::new);
+	private static final Month[]       MONTHS       = fill(new Month[25], MonthImpl::new);
+	private static final Year[]        YEARS        = fill(new Year[257], YearImpl::new);
+
+	private DurationCache() {}
+
+	private static <T extends Duration> T[] fill(T[] cache, LongFunction<T> creator) {
+		int limit = cache.length / 2;
+		for (int i = 0; i < cache.length; i++) cache[i] = creator.apply(i - limit);
+		return cache;
+	}
+
+	private static <T extends Duration> T get(T[] cache, long value, LongFunction<T> creator) {
+		int limit = cache.length / 2;
+		if (value >= -limit && value <= limit) {
+			if (statistics) HITS.increment();
+			return cache[(int) value + limit];
+		}
+		if (statistics) MISSES.increment();
+		return creator.apply(value);
+	}
+
+	static Millisecond millisecond(long value) {
+		return get(MILLISECONDS, value, MillisecondImpl::new);
+	}
+
+	static Second second(long value) {
+		return get(SECONDS, value, SecondImpl::new);
+	}
+
+	static Minute minute(long value) {
+		return get(MINUTES, value, MinuteImpl::new);
+	}
+
+	static Hour hour(long value) {
+		return get(HOURS, value, HourImpl::new);
+	}
+
+	static Day day(long value) {
+		return get(DAYS, value, DayImpl::new);
+	}
+
+	static Month month(long value) {
+		return get(MONTHS, value, MonthImpl::new);
+	}
+
+	static Year year(long value) {
+		return get(YEARS, value, YearImpl::new);
+	}
+
+	/**
+	 * Enables or disables the hit and miss counters, the counters keep their values when they are disabled.
+	 *
+	 * @param enabled {@code true} to count the calls
+	 */
+	public static void setStatisticsEnabled(boolean enabled) {
+		statistics = enabled;
+	}
+
+	/**
+	 * @return {@code true} if the hit and miss counters are enabled
+	 */
+	public static boolean isStatisticsEnabled() {
+		return statistics;
+	}
+
+	/**
+	 * @return the number of the calls returned a cached duration
+	 */
+	public static long hits() {
+		return HITS.sum();
+	}
+
+	/**
+	 * @return the number of the calls created a new duration
+	 */
+	public static long misses() {
+		return MISSES.sum();
+	}
+
+	/**
+	 * Resets the hit and miss counters.
+	 */
+	public static void resetStatistics() {
+		HITS.reset();
+		MISSES.reset();
+	}
+}
@@ -0,0 +1,62 @@
+package tr.xyz.durations;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The units of the {@link Duration} and the time digits.
+ * <p>
+ * Every {@link Duration} carries its unit, so the operations dispatch with a {@code switch}
+ * instead of comparing the classes or using reflection.
+ * The lengths are in the digit calendar, a month is {@code 30} days and a year is {@code 12} months.
+ */
+public enum DurationUnit {
+	MILLISECOND("MS", 1L),
+	SECOND("S", 1_000L),
+	MINUTE("M", 60_000L),
+	HOUR("H", 3_600_000L),
+	DAY("D", 86_400_000L),
+	MONTH("M", 2_592_000_000L),
+	YEAR("Y", 31_104_000_000L);
+
+	private final String symbol;
+	private final long   millis;
+
+	DurationUnit(String symbol, long millis) {
+		this.symbol = symbol;
+		this.millis = millis;
+	}
+
+	/**
+	 * Returns the unit of the given {@link Duration} type.
+	 *
+	 * @param durationClass the {@link Duration} type, like {@link Second}
+	 * @return the unit
+	 * @throws IllegalArgumentException if the type is not a unit type
+	 */
+	@NotNull
+	public static DurationUnit of(@NotNull Class<? extends Duration> durationClass) {
+		if (durationClass == Millisecond.class) return MILLISECOND;
+		if (durationClass == Second.class) return SECOND;
+		if (durationClass == Minute.class) return MINUTE;
+		if (durationClass == Hour.class) return HOUR;
+		if (durationClass == Day.class) return DAY;
+		if (durationClass == Month.class) return MONTH;
+		if (durationClass == Year.class) return YEAR;
+		throw new IllegalArgumentException("Unknown duration unit : " + durationClass);
+	}
+
+	/**
+	 * @return the symbol used by {@link Duration#toString()}
+	 */
+	@NotNull
+	public String getSymbol() {
+		return symbol;
+	}
+
+	/**
+	 * @return the milliseconds of one unit in the digit calendar
+	 */
+	public long getMillis() {
+		return millis;
+	}
+}
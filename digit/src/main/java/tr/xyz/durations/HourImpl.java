@@ -0,0 +1,21 @@
+package tr.xyz.durations;
+
+import org.jetbrains.annotations.NotNull;
+
+final class HourImpl extends AbstractDuration implements Hour {
+	private final long value;
+	
+	HourImpl(long value) {
+		this.value = value;
+	}
+	
+	@Override
+	public long getValue() {
+		return value;
+	}
+	
+	@Override
+	public @NotNull DurationUnit getUnit() {
+		return DurationUnit.HOUR;
+	}
+}
@@ -0,0 +1,21 @@
+package tr.xyz.durations;
+
+import org.jetbrains.annotations.NotNull;
+
+final class MillisecondImpl extends AbstractDuration implements Millisecond {
+	private final long value;
+	
+	MillisecondImpl(long value) {
+		this.value = value;
+	}
+	
+	@Override
+	public long getValue() {
+		return value;
+	}
+	
+	@Override
+	public @NotNull DurationUnit getUnit() {
+		return DurationUnit.MILLISECOND;
+	}
+}
@@ -0,0 +1,21 @@
+package tr.xyz.durations;
+
+import org.jetbrains.annotations.NotNull;
+
+final class MinuteImpl extends AbstractDuration implements Minute {
+	private final long value;
+	
+	MinuteImpl(long value) {
+		this.value = value;
+	}
+	
+	@Override
+	public long getValue() {
+		return value;
+	}
+	
+	@Override
+	public @NotNull DurationUnit getUnit() {
+		return DurationUnit.MINUTE;
+	}
+}
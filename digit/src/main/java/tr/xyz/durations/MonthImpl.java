@@ -0,0 +1,21 @@
+package tr.xyz.durations;
+
+import org.jetbrains.annotations.NotNull;
+
+final class MonthImpl extends AbstractDuration implements Month {
+	private final long value;
+	
+	MonthImpl(long value) {
+		this.value = value;
+	}
+	
+	@Override
+	public long getValue() {
+		return value;
+	}
+	
+	@Override
+	public @NotNull DurationUnit getUnit() {
+		return DurationUnit.MONTH;
+	}
+}
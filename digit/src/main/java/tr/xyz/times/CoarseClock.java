@@ -0,0 +1,116 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Opt-in coarse current time for {@link Times#nowCoarse()}.
+ * <p>
+ * When started, a daemon thread stores the packed current time of {@link Times#nowFast()}
+ * every resolution milliseconds, and {@link Times#nowCoarse()} is a single volatile read of it.
+ * So the returned time is behind the system clock by at most about the resolution, plus the scheduling delay of the thread.
+ * When stopped, which is the default, {@link Times#nowCoarse()} is the same as {@link Times#nowFast()}.
+ * <br>
+ * {@snippet lang = java:
+ * CoarseClock.start(10);
+ * Times now = Times.nowCoarse(); // at most about 10 ms old
+ * CoarseClock.stop();
+ *}
+ */
+public final class CoarseClock {
+	/**
+	 * The default resolution in milliseconds.
+	 */
+	public static final long DEFAULT_RESOLUTION_MILLIS = 1L;
+
+	/**
+	 * Not a valid packed time, the month is {@code 0}.
+	 */
+	private static final long STOPPED = Long.MIN_VALUE;
+
+	private static volatile long packed = STOPPED;
+
+	private static Thread daemon;
+	private static long   resolutionMillis;
+
+	private CoarseClock() {}
+
+	/**
+	 * Starts the clock with the {@link #DEFAULT_RESOLUTION_MILLIS default resolution}.
+	 */
+	public static void start() {
+		start(DEFAULT_RESOLUTION_MILLIS);
+	}
+
+	/**
+	 * Starts the clock with the given resolution, restarts it if it is already running.
+	 *
+	 * @param resolutionMillis the milliseconds between the refreshes of the time
+	 * @throws IllegalArgumentException if the resolution is less than {@code 1}
+	 */
+	public static synchronized void start(long resolutionMillis) {
+		if (resolutionMillis < 1) throw new IllegalArgumentException("Resolution cannot be less than 1 ms : " + resolutionMillis);
+		stop();
+		long nanos = TimeUnit.MILLISECONDS.toNanos(resolutionMillis);
+		// The first value is set before returning, so nowCoarse never goes back to the fallback while running
+		packed = PackedTimes.pack(SystemClock.now());
+		var thread = new Thread(() -> {
+			while (!Thread.currentThread().isInterrupted()) {
+				packed = PackedTimes.pack(SystemClock.now());
+				LockSupport.parkNanos(nanos);
+			}
+		}, "CoarseClock");
+		thread.setDaemon(true);
+		thread.start();
+		daemon = thread;
+		CoarseClock.resolutionMillis = resolutionMillis;
+	}
+
+	/**
+	 * Stops the clock, does nothing if it is not running.
+	 */
+	public static synchronized void stop() {
+		var thread = daemon;
+		if (thread == null) return;
+		thread.interrupt();
+		boolean interrupted = false;
+		while (thread.isAlive()) {
+			try {
+				thread.join();
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		// After the join, the thread cannot overwrite it
+		packed = STOPPED;
+		daemon = null;
+		resolutionMillis = 0;
+		if (interrupted) Thread.currentThread().interrupt();
+	}
+
+	/**
+	 * @return {@code true} if the clock is running
+	 */
+	public static synchronized boolean isRunning() {
+		return daemon != null;
+	}
+
+	/**
+	 * @return the resolution in milliseconds, or {@code 0} if the clock is not running
+	 */
+	public static synchronized long getResolutionMillis() {
+		return resolutionMillis;
+	}
+
+	/**
+	 * @return the last stored time if the clock is running, otherwise the current time
+	 */
+	@NotNull
+	static Times now() {
+		long current = packed;
+		return current == STOPPED ? SystemClock.now() : PackedTimes.ofPacked(current);
+	}
+}
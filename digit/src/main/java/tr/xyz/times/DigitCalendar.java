@@ -0,0 +1,178 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Linear millisecond arithmetic of the {@link TimeDigitRange} calendar,
+ * where a month is always {@code 30} days and a year is always {@code 12} months.
+ * <p>
+ * A time is mapped to the number of milliseconds from {@code 0-1-1 00:00:00:000},
+ * so the difference of two times is a single subtraction.
+ * The mapping is exact for the years in {@link #MIN_YEAR} and {@link #MAX_YEAR}.
+ */
+final class DigitCalendar {
+	static final long MILLIS_PER_SECOND = 1000L;
+	static final long MILLIS_PER_MINUTE = 60L * MILLIS_PER_SECOND;
+	static final long MILLIS_PER_HOUR   = 60L * MILLIS_PER_MINUTE;
+	static final long MILLIS_PER_DAY    = 24L * MILLIS_PER_HOUR;
+	static final long MILLIS_PER_MONTH  = 30L * MILLIS_PER_DAY;
+	static final long MILLIS_PER_YEAR   = 12L * MILLIS_PER_MONTH;
+
+	/**
+	 * The maximum year that can be mapped to the linear milliseconds. (inclusive)
+	 */
+	static final long MAX_YEAR = Long.MAX_VALUE / MILLIS_PER_YEAR - 1;
+	/**
+	 * The minimum year that can be mapped to the linear milliseconds. (inclusive)
+	 */
+	static final long MIN_YEAR = -MAX_YEAR;
+
+	/**
+	 * The year of the epoch, {@code 1970-1-1 00:00:00:000}.
+	 */
+	static final long EPOCH_YEAR = 1970L;
+
+	private DigitCalendar() {}
+
+	/**
+	 * @param year the year
+	 * @return {@code true} if the year can be mapped to the linear milliseconds
+	 */
+	static boolean isLinear(long year) {
+		return year >= MIN_YEAR && year <= MAX_YEAR;
+	}
+
+	/**
+	 * Returns {@code true} if the difference of any two times in the given years fits in a {@code long}.
+	 */
+	static boolean isSubtractable(long year1, long year2) {
+		return Math.abs(year1) <= MAX_YEAR / 2 && Math.abs(year2) <= MAX_YEAR / 2;
+	}
+
+	/**
+	 * Maps the given time digits to the linear milliseconds.
+	 * All values except the year must be in their range.
+	 *
+	 * @return the milliseconds from {@code 0-1-1 00:00:00:000}
+	 * @throws ArithmeticException if the year is out of {@link #MIN_YEAR} and {@link #MAX_YEAR}
+	 */
+	static long toMillis(long year, long month, long day, long hour, long minute, long second, long millisecond) {
+		if (!isLinear(year)) throw new ArithmeticException("Year must be in " + MIN_YEAR + " and " + MAX_YEAR + " : " + year);
+		return year * MILLIS_PER_YEAR
+		       + (month - 1) * MILLIS_PER_MONTH
+		       + (day - 1) * MILLIS_PER_DAY
+		       + hour * MILLIS_PER_HOUR
+		       + minute * MILLIS_PER_MINUTE
+		       + second * MILLIS_PER_SECOND
+		       + millisecond;
+	}
+
+	/**
+	 * Maps the given time to the linear milliseconds.
+	 *
+	 * @return the milliseconds from {@code 0-1-1 00:00:00:000}
+	 * @throws ArithmeticException if the year is out of {@link #MIN_YEAR} and {@link #MAX_YEAR}
+	 */
+	static long toMillis(@NotNull Times times) {
+		if (times instanceof PackedTimes packedTimes) {
+			long packed = packedTimes.getPacked();
+			return toMillis(PackedTimes.year(packed), PackedTimes.month(packed), PackedTimes.day(packed), PackedTimes.hour(packed), PackedTimes.minute(packed), PackedTimes.second(packed), PackedTimes.millisecond(packed));
+		}
+		return toMillis(times.getYear().getValue(),
+		                times.getMonth().getValue(),
+		                times.getDay().getValue(),
+		                times.getHour().getValue(),
+		                times.getMinute().getValue(),
+		                times.getSecond().getValue(),
+		                times.getMillisecond().getValue());
+	}
+
+	/**
+	 * Maps the given time digits to the milliseconds from the epoch ({@code 1970-1-1 00:00:00:000}).
+	 * All values except the year must be in their range.
+	 *
+	 * @return the epoch milliseconds
+	 * @throws ArithmeticException if the result does not fit in a {@code long}
+	 */
+	static long toEpochMillis(long year, long month, long day, long hour, long minute, long second, long millisecond) {
+		long inYear = (month - 1) * MILLIS_PER_MONTH
+		              + (day - 1) * MILLIS_PER_DAY
+		              + hour * MILLIS_PER_HOUR
+		              + minute * MILLIS_PER_MINUTE
+		              + second * MILLIS_PER_SECOND
+		              + millisecond;
+		long years = Math.subtractExact(year, EPOCH_YEAR);
+		// Before the epoch, the in-year part is taken from the next year, so that Long.MIN_VALUE can be reached
+		if (years < 0) return Math.addExact(Math.multiplyExact(years + 1, MILLIS_PER_YEAR), inYear - MILLIS_PER_YEAR);
+		return Math.addExact(Math.multiplyExact(years, MILLIS_PER_YEAR), inYear);
+	}
+
+	/**
+	 * Maps the given time to the milliseconds from the epoch ({@code 1970-1-1 00:00:00:000}).
+	 *
+	 * @return the epoch milliseconds
+	 * @throws ArithmeticException if the result does not fit in a {@code long}
+	 */
+	static long toEpochMillis(@NotNull Times times) {
+		if (times instanceof PackedTimes packedTimes) return toEpochMillisPacked(packedTimes.getPacked());
+		return toEpochMillis(times.getYear().getValue(),
+		                     times.getMonth().getValue(),
+		                     times.getDay().getValue(),
+		                     times.getHour().getValue(),
+		                     times.getMinute().getValue(),
+		                     times.getSecond().getValue(),
+		                     times.getMillisecond().getValue());
+	}
+
+	/**
+	 * Maps the given packed time to the milliseconds from the epoch ({@code 1970-1-1 00:00:00:000}).
+	 * The result always fits in a {@code long}, since a packed year is small enough.
+	 *
+	 * @param packed the packed time
+	 * @return the epoch milliseconds
+	 */
+	static long toEpochMillisPacked(long packed) {
+		return toEpochMillis(PackedTimes.year(packed), PackedTimes.month(packed), PackedTimes.day(packed), PackedTimes.hour(packed), PackedTimes.minute(packed), PackedTimes.second(packed), PackedTimes.millisecond(packed));
+	}
+
+	/**
+	 * Creates the time of the given milliseconds from the epoch ({@code 1970-1-1 00:00:00:000}).
+	 * Any {@code long} value can be decomposed.
+	 *
+	 * @param epochMillis the epoch milliseconds
+	 * @return new {@link TimeDigits}
+	 */
+	@NotNull
+	static TimeDigits ofEpochMillis(long epochMillis) {
+		long year   = EPOCH_YEAR + Math.floorDiv(epochMillis, MILLIS_PER_YEAR);
+		long inYear = Math.floorMod(epochMillis, MILLIS_PER_YEAR);
+		return new TimeDigits(year,
+		                      inYear / MILLIS_PER_MONTH + 1,
+		                      inYear % MILLIS_PER_MONTH / MILLIS_PER_DAY + 1,
+		                      inYear % MILLIS_PER_DAY / MILLIS_PER_HOUR,
+		                      inYear % MILLIS_PER_HOUR / MILLIS_PER_MINUTE,
+		                      inYear % MILLIS_PER_MINUTE / MILLIS_PER_SECOND,
+		                      inYear % MILLIS_PER_SECOND);
+	}
+
+	/**
+	 * Creates the time of the given milliseconds from the epoch ({@code 1970-1-1 00:00:00:000})
+	 * as a {@link PackedTimes} if the year can be packed, otherwise as a {@link TimeDigits}.
+	 *
+	 * @param epochMillis the epoch milliseconds
+	 * @return new {@code Times}
+	 */
+	@NotNull
+	static Times ofEpochMillisPacked(long epochMillis) {
+		long year   = EPOCH_YEAR + Math.floorDiv(epochMillis, MILLIS_PER_YEAR);
+		long inYear = Math.floorMod(epochMillis, MILLIS_PER_YEAR);
+		if (!PackedTimes.isPackable(year)) return ofEpochMillis(epochMillis);
+		return PackedTimes.ofPacked(PackedTimes.pack(year,
+		                                             inYear / MILLIS_PER_MONTH + 1,
+		                                             inYear % MILLIS_PER_MONTH / MILLIS_PER_DAY + 1,
+		                                             inYear % MILLIS_PER_DAY / MILLIS_PER_HOUR,
+		                                             inYear % MILLIS_PER_HOUR / MILLIS_PER_MINUTE,
+		                                             inYear % MILLIS_PER_MINUTE / MILLIS_PER_SECOND,
+		                                             inYear % MILLIS_PER_SECOND));
+	}
+}
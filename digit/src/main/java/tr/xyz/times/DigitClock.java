@@ -0,0 +1,106 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+import tr.xyz.durations.Duration;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code DigitClock} is a thread-safe, lock-free clock of the {@link TimeDigitRange} calendar.
+ * <p>
+ * The whole state is a single {@link AtomicLong} of the milliseconds from {@code 1970-1-1 00:00:00:000}
+ * (see {@link Times#toEpochMillis()}). Since every month is {@code 30} days and every year is {@code 12} months,
+ * adding a duration to the time digits with their carries is the same as adding its milliseconds to this value,
+ * so {@link #tick(Duration)} and {@link #advance(long)} are a single atomic addition,
+ * which does not retry under contention like a compare-and-set loop does.
+ * A {@link #snapshot()} is a single read, so it is always a consistent time.
+ * <br>
+ * {@snippet lang = java:
+ * var clock = new DigitClock(Times.of(2024, 5, 6));
+ * clock.tick(Duration.ofHours(1));  // from any thread
+ * Times now = clock.snapshot();     // 2024-5-6 01:00:00:000
+ *}
+ * <p>
+ * The clock must stay in the range of the epoch milliseconds, about {@code 296} million years around {@code 1970},
+ * the additions beyond it are not detected.
+ */
+public final class DigitClock {
+	private final AtomicLong epochMillis;
+
+	/**
+	 * Creates a clock starting from the given time.
+	 *
+	 * @param start the start time
+	 * @throws ArithmeticException if the time is out of the range of the epoch milliseconds
+	 */
+	public DigitClock(@NotNull Times start) {
+		this.epochMillis = new AtomicLong(start.toEpochMillis());
+	}
+
+	/**
+	 * Creates a clock starting from the given epoch milliseconds.
+	 *
+	 * @param epochMillis the milliseconds from {@code 1970-1-1 00:00:00:000}
+	 * @return new {@code DigitClock}
+	 */
+	@NotNull
+	public static DigitClock ofEpochMillis(long epochMillis) {
+		return new DigitClock(epochMillis);
+	}
+
+	private DigitClock(long epochMillis) {
+		this.epochMillis = new AtomicLong(epochMillis);
+	}
+
+	/**
+	 * Moves the clock forward by the given duration, or backward if it is negative.
+	 *
+	 * @param duration the duration to add
+	 * @return the time after this tick
+	 * @throws ArithmeticException if the milliseconds of the duration do not fit in a {@code long}
+	 */
+	@NotNull
+	public Times tick(@NotNull Duration duration) {
+		return DigitCalendar.ofEpochMillisPacked(advance(Math.multiplyExact(duration.getUnit().getMillis(), duration.getValue())));
+	}
+
+	/**
+	 * Moves the clock forward by the given milliseconds, or backward if it is negative.
+	 *
+	 * @param millis the milliseconds to add
+	 * @return the epoch milliseconds after this advance
+	 */
+	public long advance(long millis) {
+		return epochMillis.addAndGet(millis);
+	}
+
+	/**
+	 * Sets the time of the clock.
+	 *
+	 * @param times the new time
+	 * @throws ArithmeticException if the time is out of the range of the epoch milliseconds
+	 */
+	public void set(@NotNull Times times) {
+		epochMillis.set(times.toEpochMillis());
+	}
+
+	/**
+	 * @return the current time of the clock, a {@link PackedTimes} if the year can be packed
+	 */
+	@NotNull
+	public Times snapshot() {
+		return DigitCalendar.ofEpochMillisPacked(epochMillis.get());
+	}
+
+	/**
+	 * @return the current epoch milliseconds of the clock
+	 */
+	public long epochMillis() {
+		return epochMillis.get();
+	}
+
+	@Override
+	public String toString() {
+		return "DigitClock[" + snapshot() + "]";
+	}
+}
@@ -0,0 +1,102 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+import tr.xyz.digit.Digit;
+import tr.xyz.digit.SimpleDigit;
+import tr.xyz.durations.DurationUnit;
+
+/**
+ * An immutable {@link TimeDigit} returned by the getters of {@link ImmutableTimes}.
+ * <p>
+ * The operations return a new digit cycled in the range, like {@link SimpleDigit}, without carrying to a left digit.
+ * All digits except the year are cached, so the getters do not create objects.
+ * The digit cannot be a left digit, {@link #onCycle(long)} and {@link #leftDigit(TimeDigit)} throw {@link UnsupportedOperationException}.
+ */
+final class ImmutableTimeDigit extends SimpleDigit implements TimeDigit {
+	private static final ImmutableTimeDigit[][] CACHE = new ImmutableTimeDigit[DurationUnit.values().length][];
+
+	static {
+		for (var unit : DurationUnit.values()) {
+			if (unit == DurationUnit.YEAR) continue;
+			var range  = range(unit);
+			var digits = new ImmutableTimeDigit[(int) range.getRange()];
+			for (int i = 0; i < digits.length; i++) digits[i] = new ImmutableTimeDigit(unit, range.getMin() + i, range);
+			CACHE[unit.ordinal()] = digits;
+		}
+	}
+
+	private final DurationUnit unit;
+
+	private ImmutableTimeDigit(DurationUnit unit, long value, Digit range) {
+		super(value, range.getMin(), range.getMax());
+		this.unit = unit;
+	}
+
+	/**
+	 * Returns the digit of the given unit and value, the value is cycled in the range of the unit.
+	 */
+	@NotNull
+	static ImmutableTimeDigit of(@NotNull DurationUnit unit, long value) {
+		var digits = CACHE[unit.ordinal()];
+		if (digits != null) {
+			long index = value - digits[0].getMin();
+			if (index >= 0 && index < digits.length) return digits[(int) index];
+		}
+		return new ImmutableTimeDigit(unit, value, range(unit));
+	}
+
+	private static Digit range(DurationUnit unit) {
+		return switch (unit) {
+			case MILLISECOND -> TimeDigitRange.MILLISECONDS;
+			case SECOND -> TimeDigitRange.SECONDS;
+			case MINUTE -> TimeDigitRange.MINUTES;
+			case HOUR -> TimeDigitRange.HOURS;
+			case DAY -> TimeDigitRange.DAYS;
+			case MONTH -> TimeDigitRange.MONTHS;
+			case YEAR -> TimeDigitRange.YEARS;
+		};
+	}
+
+	@Override
+	public @NotNull DurationUnit getUnit() {
+		return unit;
+	}
+
+	@Override
+	public @NotNull Digit increment() {
+		return plus(1);
+	}
+
+	@Override
+	public @NotNull Digit decrement() {
+		return minus(1);
+	}
+
+	@Override
+	public @NotNull Digit plus(long plus) {
+		return plus == 0 ? this : of(unit, getValue() + plus);
+	}
+
+	@Override
+	public @NotNull Digit minus(long minus) {
+		return minus == 0 ? this : of(unit, getValue() - minus);
+	}
+
+	@Override
+	public void onCycle(long cycleCount) {
+		throw new UnsupportedOperationException("Immutable digit cannot be cycled");
+	}
+
+	@Override
+	public void leftDigit(TimeDigit digit) {
+		throw new UnsupportedOperationException("Immutable digit cannot have a left digit");
+	}
+
+	@Override
+	public int compareTo(@NotNull TimeDigit o) {
+		if (this.getMin() == o.getMin() && this.getMax() == o.getMax()) {
+			return Long.compare(this.getValue(), o.getValue());
+		}
+		throw new IllegalArgumentException("Comparing digits with different min/max values is not supported");
+	}
+}
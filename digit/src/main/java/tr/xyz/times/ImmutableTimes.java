@@ -0,0 +1,293 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+import tr.xyz.digit.Digit;
+import tr.xyz.digit.DigitMath;
+import tr.xyz.durations.Duration;
+import tr.xyz.durations.DurationUnit;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@code ImmutableTimes} is an immutable, value-based {@link Times} in the full year range of {@link TimeDigits}.
+ * <p>
+ * The year is kept in a {@code long} and the other digits in the low {@code 36} bits of the {@link PackedTimes} layout,
+ * so an instance is two {@code long}s. The getters return immutable {@link TimeDigit}s, the digits except the year are cached.
+ * The operations return this instance when the result is the same time, like adding zero or replacing a digit with its own value,
+ * and {@link #copy()} always returns this instance.
+ * So an instance can be cached and shared between threads without locking or copying.
+ * <br>
+ * {@snippet lang = java:
+ * var time = ImmutableTimes.of(Times.of(2024, 5, 6, 14, 50));
+ * Assertions.assertSame(time, time.plus(Duration.ofHours(0)));
+ * Assertions.assertSame(time, time.copy());
+ * time.getHour().increment(); // Returns a new digit, does not change the time
+ *}
+ * <p>
+ * Like the other implementations, the values out of range are cycled when it is created.
+ */
+public final class ImmutableTimes implements Times {
+	private final long year;
+	/**
+	 * The month, day, hour, minute, second and millisecond in the {@link PackedTimes} layout.
+	 */
+	private final long fields;
+
+	private ImmutableTimes(long year, long fields) {
+		this.year   = year;
+		this.fields = fields;
+	}
+
+	/**
+	 * Returns an {@code ImmutableTimes} with the same time digits of the given time.
+	 * If the given time is an {@code ImmutableTimes}, it is returned.
+	 *
+	 * @param times the time
+	 * @return {@code ImmutableTimes}
+	 */
+	@NotNull
+	public static ImmutableTimes of(@NotNull Times times) {
+		if (times instanceof ImmutableTimes immutable) return immutable;
+		if (times instanceof PackedTimes packedTimes) {
+			long p = packedTimes.getPacked();
+			return new ImmutableTimes(PackedTimes.year(p), p & PackedTimes.FIELDS_MASK);
+		}
+		return new ImmutableTimes(times.getYear().getValue(), fields(times));
+	}
+
+	/**
+	 * Creates new {@code ImmutableTimes} with the given values, the values out of range are cycled.
+	 *
+	 * @param year        year
+	 * @param month       month
+	 * @param day         day
+	 * @param hour        hour
+	 * @param minute      minute
+	 * @param second      second
+	 * @param millisecond millisecond
+	 * @return new {@code ImmutableTimes}
+	 */
+	@NotNull
+	public static ImmutableTimes of(long year, long month, long day, long hour, long minute, long second, long millisecond) {
+		return carry(null, year, month, day, hour, minute, second, millisecond);
+	}
+
+	private static long fields(Times times) {
+		return PackedTimes.pack(0,
+		                        times.getMonth().getValue(),
+		                        times.getDay().getValue(),
+		                        times.getHour().getValue(),
+		                        times.getMinute().getValue(),
+		                        times.getSecond().getValue(),
+		                        times.getMillisecond().getValue());
+	}
+
+	/**
+	 * Carries all the given values into their range, and returns the given instance if the result is the same time.
+	 */
+	@NotNull
+	private static ImmutableTimes carry(ImmutableTimes same, long year, long month, long day, long hour, long minute, long second, long millisecond) {
+		var  carried     = PackedTimes.carryDigits(year, month, day, hour, minute, second, millisecond);
+		long carriedYear = DigitMath.wrap(carried.year(), Digit.MIN, Digit.MAX);
+		long fields      = carried.fields();
+		if (same != null && same.year == carriedYear && same.fields == fields) return same;
+		return new ImmutableTimes(carriedYear, fields);
+	}
+
+	/**
+	 * Returns a new {@link TimeDigits} with the same time digits of this.
+	 *
+	 * @return new {@link TimeDigits}
+	 */
+	@NotNull
+	public TimeDigits toTimeDigits() {
+		return new TimeDigits(year, month(), day(), hour(), minute(), second(), millisecond());
+	}
+
+	private long month() {
+		return PackedTimes.month(fields);
+	}
+
+	private long day() {
+		return PackedTimes.day(fields);
+	}
+
+	private long hour() {
+		return PackedTimes.hour(fields);
+	}
+
+	private long minute() {
+		return PackedTimes.minute(fields);
+	}
+
+	private long second() {
+		return PackedTimes.second(fields);
+	}
+
+	private long millisecond() {
+		return PackedTimes.millisecond(fields);
+	}
+
+	@Override
+	public @NotNull Times copy() {
+		return this;
+	}
+
+	@Override
+	public @NotNull Times plus(@NotNull Times times) {
+		return plusFields(times.getYear().getValue(),
+		                  times.getMonth().getValue(),
+		                  times.getDay().getValue(),
+		                  times.getHour().getValue(),
+		                  times.getMinute().getValue(),
+		                  times.getSecond().getValue(),
+		                  times.getMillisecond().getValue());
+	}
+
+	@Override
+	public @NotNull Times plus(@NotNull Duration duration) {
+		return plus(duration.getUnit(), duration.getValue());
+	}
+
+	@Override
+	public @NotNull Times plus(@NotNull TimeDigit timeDigit) {
+		return plus(timeDigit.getUnit(), timeDigit.getValue());
+	}
+
+	@Override
+	public @NotNull Times plus(@NotNull DurationUnit unit, long amount) {
+		if (amount == 0) return this;
+		return switch (unit) {
+			case MILLISECOND -> plusFields(0, 0, 0, 0, 0, 0, amount);
+			case SECOND -> plusFields(0, 0, 0, 0, 0, amount, 0);
+			case MINUTE -> plusFields(0, 0, 0, 0, amount, 0, 0);
+			case HOUR -> plusFields(0, 0, 0, amount, 0, 0, 0);
+			case DAY -> plusFields(0, 0, amount, 0, 0, 0, 0);
+			case MONTH -> plusFields(0, amount, 0, 0, 0, 0, 0);
+			case YEAR -> plusFields(amount, 0, 0, 0, 0, 0, 0);
+		};
+	}
+
+	private @NotNull ImmutableTimes plusFields(long year, long month, long day, long hour, long minute, long second, long millisecond) {
+		return carry(this, this.year + year, month() + month, day() + day, hour() + hour, minute() + minute, second() + second, millisecond() + millisecond);
+	}
+
+	@Override
+	public @NotNull Times between(@NotNull Times times) {
+		long otherYear = times.getYear().getValue();
+		if (PackedTimes.isPackable(year) && PackedTimes.isPackable(otherYear) && PackedTimes.isPackable(Math.abs(year - otherYear))) {
+			long other = times instanceof ImmutableTimes immutable ? immutable.packed() : PackedTimes.pack(times);
+			long p     = PackedTimes.betweenPacked(packed(), other);
+			return new ImmutableTimes(PackedTimes.year(p), p & PackedTimes.FIELDS_MASK);
+		}
+		return of(toTimeDigits().between(times));
+	}
+
+	/**
+	 * Returns the packed value of this time, the year must be packable.
+	 */
+	private long packed() {
+		return PackedTimes.pack(year, 0, 0, 0, 0, 0, 0) | fields;
+	}
+
+	@Override
+	public @NotNull LocalDateTime toLocalDateTime() {
+		return LocalDateTime.of((int) year, (int) month(), (int) day(), (int) hour(), (int) minute(), (int) second(), (int) (millisecond() * 1_000_000));
+	}
+
+	@Override
+	public @NotNull TimeDigit getMillisecond() {
+		return ImmutableTimeDigit.of(DurationUnit.MILLISECOND, millisecond());
+	}
+
+	@Override
+	public @NotNull TimeDigit getSecond() {
+		return ImmutableTimeDigit.of(DurationUnit.SECOND, second());
+	}
+
+	@Override
+	public @NotNull TimeDigit getMinute() {
+		return ImmutableTimeDigit.of(DurationUnit.MINUTE, minute());
+	}
+
+	@Override
+	public @NotNull TimeDigit getHour() {
+		return ImmutableTimeDigit.of(DurationUnit.HOUR, hour());
+	}
+
+	@Override
+	public @NotNull TimeDigit getDay() {
+		return ImmutableTimeDigit.of(DurationUnit.DAY, day());
+	}
+
+	@Override
+	public @NotNull TimeDigit getMonth() {
+		return ImmutableTimeDigit.of(DurationUnit.MONTH, month());
+	}
+
+	@Override
+	public @NotNull TimeDigit getYear() {
+		return ImmutableTimeDigit.of(DurationUnit.YEAR, year);
+	}
+
+	@Override
+	public @NotNull Times with(@NotNull TimeDigit timeDigit) {
+		// Like the other implementations, the value is cycled in its own range without carrying to the left digit
+		long value = timeDigit.getValue();
+		return switch (timeDigit.getUnit()) {
+			case MILLISECOND -> with(year, month(), day(), hour(), minute(), second(), Math.floorMod(value, 1000));
+			case SECOND -> with(year, month(), day(), hour(), minute(), Math.floorMod(value, 60), millisecond());
+			case MINUTE -> with(year, month(), day(), hour(), Math.floorMod(value, 60), second(), millisecond());
+			case HOUR -> with(year, month(), day(), Math.floorMod(value, 24), minute(), second(), millisecond());
+			case DAY -> with(year, month(), Math.floorMod(value - 1, 30) + 1, hour(), minute(), second(), millisecond());
+			case MONTH -> with(year, Math.floorMod(value - 1, 12) + 1, day(), hour(), minute(), second(), millisecond());
+			case YEAR -> with(DigitMath.wrap(value, Digit.MIN, Digit.MAX), month(), day(), hour(), minute(), second(), millisecond());
+		};
+	}
+
+	/**
+	 * Returns this instance if the given values in range are the same time, otherwise a new instance.
+	 */
+	private @NotNull ImmutableTimes with(long year, long month, long day, long hour, long minute, long second, long millisecond) {
+		long fields = PackedTimes.pack(0, month, day, hour, minute, second, millisecond);
+		if (year == this.year && fields == this.fields) return this;
+		return new ImmutableTimes(year, fields);
+	}
+
+	@Override
+	public @NotNull Times truncatedTo(@NotNull DurationUnit unit) {
+		long truncated = PackedTimes.truncatePacked(fields, unit);
+		return truncated == fields ? this : new ImmutableTimes(year, truncated);
+	}
+
+	@Override
+	public int compareTo(@NotNull Times o) {
+		if (o instanceof ImmutableTimes other) {
+			int r = Long.compare(year, other.year);
+			return r != 0 ? r : Long.compare(fields, other.fields);
+		}
+		if (o instanceof PackedTimes other) {
+			long p = other.getPacked();
+			int  r = Long.compare(year, PackedTimes.year(p));
+			return r != 0 ? r : Long.compare(fields, p & PackedTimes.FIELDS_MASK);
+		}
+		int r = Long.compare(year, o.getYear().getValue());
+		return r != 0 ? r : Long.compare(fields, fields(o));
+	}
+
+	@Override
+	public String toString() {
+		return TimesFormatter.format(this);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj instanceof ImmutableTimes other) return year == other.year && fields == other.fields;
+		return obj instanceof Times times && compareTo(times) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return PackedTimes.hash(year, fields);
+	}
+}
@@ -0,0 +1,499 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+import tr.xyz.durations.Duration;
+import tr.xyz.durations.DurationUnit;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@code PackedTimes} is an immutable {@link Times} that holds all of its time digits in a single {@code long}.
+ * <p>
+ * Bit layout of the packed value (from the most significant bit):
+ * <pre>
+ * | year (28, signed) | month (4) | day (5) | hour (5) | minute (6) | second (6) | millisecond (10) |
+ * </pre>
+ * The year takes the sign bit and all other digits are placed below it in order,
+ * so comparing two packed values with {@link Long#compare(long, long)} gives the same order as {@link Times#compareTo(Object)}.
+ * <p>
+ * Because of the fixed width, the year must be in the range of {@link #MIN_YEAR} and {@link #MAX_YEAR} (both inclusive).
+ * Operations producing a year out of this range return a {@link TimeDigits} instead.
+ * <br>
+ * {@snippet lang = java:
+ * var time   = PackedTimes.of(Times.of(2024, 5, 6, 14, 50));
+ * var digits = time.toTimeDigits(); // Lossless
+ * Assertions.assertEquals(time, digits);
+ *}
+ * <p>
+ * Since the object is immutable, the {@link TimeDigit} getters return new digits on each call,
+ * changing them does not change this time. The operations that do not change the time, like adding zero, return this instance.
+ */
+public final class PackedTimes implements Times {
+	/**
+	 * The minimum year that can be packed. (inclusive)
+	 */
+	public static final long MIN_YEAR = -(1L << 27);
+	/**
+	 * The maximum year that can be packed. (inclusive)
+	 */
+	public static final long MAX_YEAR = (1L << 27) - 1;
+
+	private static final int MILLISECOND_SHIFT = 0;
+	private static final int SECOND_SHIFT      = 10;
+	private static final int MINUTE_SHIFT      = 16;
+	private static final int HOUR_SHIFT        = 22;
+	private static final int DAY_SHIFT         = 27;
+	private static final int MONTH_SHIFT       = 32;
+	private static final int YEAR_SHIFT        = 36;
+
+	private static final long MILLISECOND_MASK = (1L << 10) - 1;
+	private static final long SECOND_MASK      = (1L << 6) - 1;
+	private static final long MINUTE_MASK      = (1L << 6) - 1;
+	private static final long HOUR_MASK        = (1L << 5) - 1;
+	private static final long DAY_MASK         = (1L << 5) - 1;
+	private static final long MONTH_MASK       = (1L << 4) - 1;
+
+	/**
+	 * The mask of the month, day, hour, minute, second and millisecond, the bits below the year.
+	 */
+	static final long FIELDS_MASK = (1L << YEAR_SHIFT) - 1;
+
+	private final long packed;
+
+	private PackedTimes(long packed) {
+		this.packed = packed;
+	}
+
+	/**
+	 * Creates a new {@code PackedTimes} from the given packed value.
+	 *
+	 * @param packed the packed value, created by {@link #pack(long, long, long, long, long, long, long)}
+	 * @return new {@code PackedTimes}
+	 */
+	@NotNull
+	public static PackedTimes ofPacked(long packed) {
+		return new PackedTimes(packed);
+	}
+
+	/**
+	 * Creates a new {@code PackedTimes} with the same time digits of the given {@code Times}.
+	 *
+	 * @param times the time to pack
+	 * @return new {@code PackedTimes}, or the given object itself if it is already a {@code PackedTimes}
+	 * @throws IllegalArgumentException if the year is out of {@link #MIN_YEAR} and {@link #MAX_YEAR}
+	 */
+	@NotNull
+	public static PackedTimes of(@NotNull Times times) {
+		if (times instanceof PackedTimes packedTimes) return packedTimes;
+		return new PackedTimes(pack(times));
+	}
+
+	/**
+	 * Creates a new {@code PackedTimes} with the given values.
+	 * Like {@link Times#of(long, long, long, long, long, long, long)},
+	 * values that are not in their range will be cycled.
+	 *
+	 * @param year        year
+	 * @param month       month
+	 * @param day         day
+	 * @param hour        hour
+	 * @param minute      minute
+	 * @param second      second
+	 * @param millisecond millisecond
+	 * @return new {@code PackedTimes}
+	 * @throws IllegalArgumentException if the year is out of {@link #MIN_YEAR} and {@link #MAX_YEAR}
+	 */
+	@NotNull
+	public static PackedTimes of(long year, long month, long day, long hour, long minute, long second, long millisecond) {
+		return new PackedTimes(pack(year,
+		                            Math.floorMod(month - 1, 12) + 1,
+		                            Math.floorMod(day - 1, 30) + 1,
+		                            Math.floorMod(hour, 24),
+		                            Math.floorMod(minute, 60),
+		                            Math.floorMod(second, 60),
+		                            Math.floorMod(millisecond, 1000)));
+	}
+
+	/**
+	 * Packs the given time digits into a single {@code long}.
+	 * All values except the year must already be in their range.
+	 *
+	 * @param year        year
+	 * @param month       month ({@code 1-12})
+	 * @param day         day ({@code 1-30})
+	 * @param hour        hour ({@code 0-23})
+	 * @param minute      minute ({@code 0-59})
+	 * @param second      second ({@code 0-59})
+	 * @param millisecond millisecond ({@code 0-999})
+	 * @return the packed value
+	 * @throws IllegalArgumentException if the year is out of {@link #MIN_YEAR} and {@link #MAX_YEAR}
+	 */
+	public static long pack(long year, long month, long day, long hour, long minute, long second, long millisecond) {
+		if (!isPackable(year)) throw new IllegalArgumentException("Year must be in " + MIN_YEAR + " and " + MAX_YEAR + " : " + year);
+		return year << YEAR_SHIFT
+		       | month << MONTH_SHIFT
+		       | day << DAY_SHIFT
+		       | hour << HOUR_SHIFT
+		       | minute << MINUTE_SHIFT
+		       | second << SECOND_SHIFT
+		       | millisecond << MILLISECOND_SHIFT;
+	}
+
+	/**
+	 * Packs the given time into a single {@code long}.
+	 *
+	 * @param times the time to pack
+	 * @return the packed value
+	 * @throws IllegalArgumentException if the year is out of {@link #MIN_YEAR} and {@link #MAX_YEAR}
+	 */
+	public static long pack(@NotNull Times times) {
+		if (times instanceof PackedTimes packedTimes) return packedTimes.packed;
+		return pack(times.getYear().getValue(),
+		            times.getMonth().getValue(),
+		            times.getDay().getValue(),
+		            times.getHour().getValue(),
+		            times.getMinute().getValue(),
+		            times.getSecond().getValue(),
+		            times.getMillisecond().getValue());
+	}
+
+	/**
+	 * @param year the year
+	 * @return {@code true} if the year can be packed
+	 */
+	public static boolean isPackable(long year) {
+		return year >= MIN_YEAR && year <= MAX_YEAR;
+	}
+
+	/**
+	 * @param packed packed value
+	 * @return the year of the packed value
+	 */
+	public static long year(long packed) {
+		return packed >> YEAR_SHIFT;
+	}
+
+	/**
+	 * @param packed packed value
+	 * @return the month of the packed value
+	 */
+	public static long month(long packed) {
+		return (packed >>> MONTH_SHIFT) & MONTH_MASK;
+	}
+
+	/**
+	 * @param packed packed value
+	 * @return the day of the packed value
+	 */
+	public static long day(long packed) {
+		return (packed >>> DAY_SHIFT) & DAY_MASK;
+	}
+
+	/**
+	 * @param packed packed value
+	 * @return the hour of the packed value
+	 */
+	public static long hour(long packed) {
+		return (packed >>> HOUR_SHIFT) & HOUR_MASK;
+	}
+
+	/**
+	 * @param packed packed value
+	 * @return the minute of the packed value
+	 */
+	public static long minute(long packed) {
+		return (packed >>> MINUTE_SHIFT) & MINUTE_MASK;
+	}
+
+	/**
+	 * @param packed packed value
+	 * @return the second of the packed value
+	 */
+	public static long second(long packed) {
+		return (packed >>> SECOND_SHIFT) & SECOND_MASK;
+	}
+
+	/**
+	 * @param packed packed value
+	 * @return the millisecond of the packed value
+	 */
+	public static long millisecond(long packed) {
+		return (packed >>> MILLISECOND_SHIFT) & MILLISECOND_MASK;
+	}
+
+	/**
+	 * Carries all the given values into their range, and returns the result as a {@code PackedTimes}
+	 * if the year can be packed, otherwise as a {@link TimeDigits}.
+	 */
+	@NotNull
+	private static Times carry(long year, long month, long day, long hour, long minute, long second, long millisecond) {
+		Carried carried = carryDigits(year, month, day, hour, minute, second, millisecond);
+		return isPackable(carried.year()) ? new PackedTimes(carried.packed()) : carried.toTimeDigits();
+	}
+
+	/**
+	 * Carries all the given values into their range, and packs the result.
+	 *
+	 * @throws IllegalArgumentException if the carried year is out of {@link #MIN_YEAR} and {@link #MAX_YEAR}
+	 */
+	static long carryPacked(long year, long month, long day, long hour, long minute, long second, long millisecond) {
+		return carryDigits(year, month, day, hour, minute, second, millisecond).packed();
+	}
+
+	/**
+	 * Carries all the given values into their range in one pass from the millisecond to the year.
+	 * The year is not checked, so the result can be a time that cannot be packed.
+	 * It is the carry of all implementations, {@link TimeDigits} and {@link ImmutableTimes} use it too.
+	 */
+	@NotNull
+	static Carried carryDigits(long year, long month, long day, long hour, long minute, long second, long millisecond) {
+		second += Math.floorDiv(millisecond, 1000);
+		minute += Math.floorDiv(second, 60);
+		hour += Math.floorDiv(minute, 60);
+		day += Math.floorDiv(hour, 24);
+		month += Math.floorDiv(day - 1, 30);
+		return new Carried(year + Math.floorDiv(month - 1, 12),
+		                   pack(0,
+		                        Math.floorMod(month - 1, 12) + 1,
+		                        Math.floorMod(day - 1, 30) + 1,
+		                        Math.floorMod(hour, 24),
+		                        Math.floorMod(minute, 60),
+		                        Math.floorMod(second, 60),
+		                        Math.floorMod(millisecond, 1000)));
+	}
+
+	/**
+	 * A carried time, see {@link #carryDigits(long, long, long, long, long, long, long)}.
+	 *
+	 * @param year   the carried year
+	 * @param fields the other digits in the {@link #FIELDS_MASK fields} layout
+	 */
+	record Carried(long year, long fields) {
+		/**
+		 * @throws IllegalArgumentException if the year is out of {@link #MIN_YEAR} and {@link #MAX_YEAR}
+		 */
+		long packed() {
+			return pack(year, 0, 0, 0, 0, 0, 0) | fields;
+		}
+
+		@NotNull
+		TimeDigits toTimeDigits() {
+			return new TimeDigits(year, month(fields), day(fields), hour(fields), minute(fields), second(fields), millisecond(fields));
+		}
+	}
+
+	/**
+	 * Returns the hash code of a time from its year and its {@link #FIELDS_MASK fields} in the packed layout.
+	 * All implementations of {@link Times} use it, so the equal times have the same hash code.
+	 */
+	static int hash(long year, long fields) {
+		return 31 * Long.hashCode(year) + Long.hashCode(fields);
+	}
+
+	/**
+	 * Packed form of {@link #between(Times)}, the digit-wise difference of the later time and the earlier time.
+	 *
+	 * @param packed1 the first packed time
+	 * @param packed2 the second packed time
+	 * @return the packed difference
+	 */
+	static long betweenPacked(long packed1, long packed2) {
+		if (packed1 == packed2) return pack(0, 1, 1, 0, 0, 0, 0);
+		long first  = Math.max(packed1, packed2);
+		long second = Math.min(packed1, packed2);
+		return carryPacked(year(first) - year(second),
+		                   month(first) - month(second),
+		                   day(first) - day(second),
+		                   hour(first) - hour(second),
+		                   minute(first) - minute(second),
+		                   second(first) - second(second),
+		                   millisecond(first) - millisecond(second));
+	}
+
+	/**
+	 * @return the packed value of this time
+	 */
+	public long getPacked() {
+		return packed;
+	}
+
+	/**
+	 * Returns a new {@link TimeDigits} with the same time digits of this.
+	 *
+	 * @return new {@link TimeDigits}
+	 */
+	@NotNull
+	public TimeDigits toTimeDigits() {
+		return new TimeDigits(year(packed), month(packed), day(packed), hour(packed), minute(packed), second(packed), millisecond(packed));
+	}
+
+	@Override
+	public @NotNull Times copy() {
+		return this;
+	}
+
+	@Override
+	public @NotNull Times plus(@NotNull Times times) {
+		if (times instanceof PackedTimes other) {
+			long o = other.packed;
+			return carry(year(packed) + year(o), month(packed) + month(o), day(packed) + day(o), hour(packed) + hour(o), minute(packed) + minute(o), second(packed) + second(o), millisecond(packed) + millisecond(o));
+		}
+		return carry(year(packed) + times.getYear().getValue(),
+		             month(packed) + times.getMonth().getValue(),
+		             day(packed) + times.getDay().getValue(),
+		             hour(packed) + times.getHour().getValue(),
+		             minute(packed) + times.getMinute().getValue(),
+		             second(packed) + times.getSecond().getValue(),
+		             millisecond(packed) + times.getMillisecond().getValue());
+	}
+
+	@Override
+	public @NotNull Times plus(@NotNull Duration duration) {
+		return plus(duration.getUnit(), duration.getValue());
+	}
+
+	@Override
+	public @NotNull Times plus(@NotNull TimeDigit timeDigit) {
+		return plus(timeDigit.getUnit(), timeDigit.getValue());
+	}
+
+	@Override
+	public @NotNull Times plus(@NotNull DurationUnit unit, long amount) {
+		if (amount == 0) return this;
+		return switch (unit) {
+			case MILLISECOND -> plusFields(0, 0, 0, 0, 0, 0, amount);
+			case SECOND -> plusFields(0, 0, 0, 0, 0, amount, 0);
+			case MINUTE -> plusFields(0, 0, 0, 0, amount, 0, 0);
+			case HOUR -> plusFields(0, 0, 0, amount, 0, 0, 0);
+			case DAY -> plusFields(0, 0, amount, 0, 0, 0, 0);
+			case MONTH -> plusFields(0, amount, 0, 0, 0, 0, 0);
+			case YEAR -> plusFields(amount, 0, 0, 0, 0, 0, 0);
+		};
+	}
+
+	private @NotNull Times plusFields(long year, long month, long day, long hour, long minute, long second, long millisecond) {
+		return carry(year(packed) + year, month(packed) + month, day(packed) + day, hour(packed) + hour, minute(packed) + minute, second(packed) + second, millisecond(packed) + millisecond);
+	}
+
+	@Override
+	public @NotNull Times between(@NotNull Times times) {
+		if (!(times instanceof PackedTimes) && !isPackable(times.getYear().getValue())) return toTimeDigits().between(times);
+		long other = pack(times);
+		if (!isPackable(Math.abs(year(packed) - year(other)))) return toTimeDigits().between(times);
+		return new PackedTimes(betweenPacked(packed, other));
+	}
+
+	@Override
+	public @NotNull LocalDateTime toLocalDateTime() {
+		return LocalDateTime.of((int) year(packed), (int) month(packed), (int) day(packed), (int) hour(packed), (int) minute(packed), (int) second(packed), (int) (millisecond(packed) * 1_000_000));
+	}
+
+	@Override
+	public @NotNull TimeDigit getMillisecond() {
+		return TimeDigit.millisecond(millisecond(packed));
+	}
+
+	@Override
+	public @NotNull TimeDigit getSecond() {
+		return TimeDigit.second(second(packed));
+	}
+
+	@Override
+	public @NotNull TimeDigit getMinute() {
+		return TimeDigit.minute(minute(packed));
+	}
+
+	@Override
+	public @NotNull TimeDigit getHour() {
+		return TimeDigit.hour(hour(packed));
+	}
+
+	@Override
+	public @NotNull TimeDigit getDay() {
+		return TimeDigit.day(day(packed));
+	}
+
+	@Override
+	public @NotNull TimeDigit getMonth() {
+		return TimeDigit.month(month(packed));
+	}
+
+	@Override
+	public @NotNull TimeDigit getYear() {
+		return TimeDigit.year(year(packed));
+	}
+
+	@Override
+	public @NotNull Times with(@NotNull TimeDigit timeDigit) {
+		long value = timeDigit.getValue();
+		var result = switch (timeDigit.getUnit()) {
+			case MILLISECOND -> of(year(packed), month(packed), day(packed), hour(packed), minute(packed), second(packed), value);
+			case SECOND -> of(year(packed), month(packed), day(packed), hour(packed), minute(packed), value, millisecond(packed));
+			case MINUTE -> of(year(packed), month(packed), day(packed), hour(packed), value, second(packed), millisecond(packed));
+			case HOUR -> of(year(packed), month(packed), day(packed), value, minute(packed), second(packed), millisecond(packed));
+			case DAY -> of(year(packed), month(packed), value, hour(packed), minute(packed), second(packed), millisecond(packed));
+			case MONTH -> of(year(packed), value, day(packed), hour(packed), minute(packed), second(packed), millisecond(packed));
+			case YEAR -> of(value, month(packed), day(packed), hour(packed), minute(packed), second(packed), millisecond(packed));
+		};
+		return result.packed == packed ? this : result;
+	}
+
+	@Override
+	public @NotNull Times truncatedTo(@NotNull DurationUnit unit) {
+		long truncated = truncatePacked(packed, unit);
+		return truncated == packed ? this : new PackedTimes(truncated);
+	}
+
+	/**
+	 * Packed form of {@link #truncatedTo(DurationUnit)}, it can also be applied to the {@link #FIELDS_MASK fields} without the year.
+	 *
+	 * @param packed the packed time
+	 * @param unit   the unit to truncate to
+	 * @return the packed truncated time
+	 */
+	static long truncatePacked(long packed, @NotNull DurationUnit unit) {
+		return switch (unit) {
+			case MILLISECOND -> packed;
+			case SECOND -> packed & -(1L << SECOND_SHIFT);
+			case MINUTE -> packed & -(1L << MINUTE_SHIFT);
+			case HOUR -> packed & -(1L << HOUR_SHIFT);
+			case DAY -> packed & -(1L << DAY_SHIFT);
+			case MONTH -> packed & -(1L << MONTH_SHIFT) | 1L << DAY_SHIFT;
+			case YEAR -> packed & -(1L << YEAR_SHIFT) | 1L << MONTH_SHIFT | 1L << DAY_SHIFT;
+		};
+	}
+
+	@Override
+	public int compareTo(@NotNull Times o) {
+		if (o instanceof PackedTimes other) return Long.compare(packed, other.packed);
+		int r = Long.compare(year(packed), o.getYear().getValue());
+		if (r != 0) return r;
+		r = Long.compare(month(packed), o.getMonth().getValue());
+		if (r != 0) return r;
+		r = Long.compare(day(packed), o.getDay().getValue());
+		if (r != 0) return r;
+		r = Long.compare(hour(packed), o.getHour().getValue());
+		if (r != 0) return r;
+		r = Long.compare(minute(packed), o.getMinute().getValue());
+		if (r != 0) return r;
+		r = Long.compare(second(packed), o.getSecond().getValue());
+		if (r != 0) return r;
+		return Long.compare(millisecond(packed), o.getMillisecond().getValue());
+	}
+
+	@Override
+	public String toString() {
+		return TimesFormatter.format(this);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj instanceof PackedTimes other) return packed == other.packed;
+		return obj instanceof Times times && compareTo(times) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return hash(year(packed), packed & FIELDS_MASK);
+	}
+}
@@ -0,0 +1,66 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Current local time from {@link System#currentTimeMillis()}, without creating {@code java.time} objects per call.
+ * <p>
+ * The offset of the system default zone is read from its {@link ZoneTable#systemDefault() table},
+ * so a change of the default zone is seen by the next call.
+ * The local milliseconds are decomposed with the Gregorian calendar arithmetic.
+ */
+final class SystemClock {
+	private static final long MILLIS_PER_DAY = 86_400_000L;
+
+	private SystemClock() {}
+
+	/**
+	 * @return current local time of the system default zone
+	 */
+	@NotNull
+	static TimeDigits now() {
+		return ofLocalMillis(localMillis(System.currentTimeMillis()));
+	}
+
+	/**
+	 * Converts the given epoch milliseconds to the local milliseconds of the system default zone.
+	 *
+	 * @param epochMillis the milliseconds from {@code 1970-01-01T00:00:00Z}
+	 * @return the local milliseconds from {@code 1970-01-01T00:00:00}
+	 */
+	static long localMillis(long epochMillis) {
+		return epochMillis + ZoneTable.systemDefault().offsetMillis(epochMillis);
+	}
+
+	/**
+	 * Decomposes the given local milliseconds with the Gregorian calendar.
+	 * Like {@link Times#of(java.time.LocalDateTime)}, the day {@code 31} is cycled by the day digit.
+	 *
+	 * @param localMillis the local milliseconds from {@code 1970-01-01T00:00:00}
+	 * @return new {@link TimeDigits}
+	 */
+	@NotNull
+	static TimeDigits ofLocalMillis(long localMillis) {
+		long days      = Math.floorDiv(localMillis, MILLIS_PER_DAY);
+		long millisDay = Math.floorMod(localMillis, MILLIS_PER_DAY);
+
+		// Days to civil date (proleptic Gregorian), see http://howardhinnant.github.io/date_algorithms.html
+		long z     = days + 719_468L;
+		long era   = Math.floorDiv(z, 146_097L);
+		long doe   = z - era * 146_097L;
+		long yoe   = (doe - doe / 1_460L + doe / 36_524L - doe / 146_096L) / 365L;
+		long doy   = doe - (365L * yoe + yoe / 4L - yoe / 100L);
+		long mp    = (5L * doy + 2L) / 153L;
+		long day   = doy - (153L * mp + 2L) / 5L + 1L;
+		long month = mp < 10L ? mp + 3L : mp - 9L;
+		long year  = yoe + era * 400L + (month <= 2L ? 1L : 0L);
+
+		return new TimeDigits(year,
+		                      month,
+		                      day,
+		                      millisDay / 3_600_000L,
+		                      millisDay % 3_600_000L / 60_000L,
+		                      millisDay % 60_000L / 1_000L,
+		                      millisDay % 1_000L);
+	}
+}
@@ -0,0 +1,273 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+import tr.xyz.durations.DurationUnit;
+
+import java.util.Arrays;
+
+/**
+ * {@code TimeBucketer} groups times into fixed-width buckets, like the minutes or the 5 minutes of a day,
+ * and accumulates a count and a sum per bucket in primitive arrays.
+ * <p>
+ * A bucket id is the epoch milliseconds of the time (see {@link Times#toEpochMillis()}) divided by the bucket width,
+ * so the buckets are aligned to {@code 1970-1-1 00:00:00:000} and the start of a bucket is the time
+ * {@link Times#truncatedTo(DurationUnit) truncated} to the unit when the width is {@code 1}.
+ * The buckets of the range given at the creation are indexed from {@code 0}, the times out of the range are only counted.
+ * No object is created per time, the bucket start is created as a {@code Times} only by {@link #getStart(int)}.
+ * <br>
+ * {@snippet lang = java:
+ * var bucketer = new TimeBucketer(DurationUnit.MINUTE, 5, Times.of(2024, 5, 6), Times.of(2024, 5, 7));
+ * for (int i = 0; i < series.size(); i++) bucketer.addPacked(series.getPacked(i), latencies[i]);
+ * for (int i = 0; i < bucketer.size(); i++) {
+ *     if (bucketer.getCount(i) > 0) System.out.println(bucketer.getStart(i) + " " + bucketer.getSum(i) / bucketer.getCount(i));
+ * }
+ *}
+ * <p>
+ * It is not thread-safe.
+ */
+public final class TimeBucketer {
+	/**
+	 * The maximum number of buckets.
+	 */
+	public static final int MAX_BUCKETS = Integer.MAX_VALUE - 8;
+
+	private final DurationUnit unit;
+	private final long         width;
+	private final long         bucketMillis;
+	private final long         firstBucket;
+	private final long[]       counts;
+	private final long[]       sums;
+	private       long         outOfRange;
+
+	/**
+	 * Creates a bucketer of the buckets that overlap the range of {@code from} (inclusive) and {@code to} (exclusive).
+	 *
+	 * @param unit  the unit of the bucket width
+	 * @param width the number of units in a bucket
+	 * @param from  the start of the range (inclusive)
+	 * @param to    the end of the range (exclusive)
+	 * @throws IllegalArgumentException if the width is not positive, the range is empty or has more than {@link #MAX_BUCKETS} buckets
+	 * @throws ArithmeticException      if the bucket width or a time does not fit in the epoch milliseconds
+	 */
+	public TimeBucketer(@NotNull DurationUnit unit, long width, @NotNull Times from, @NotNull Times to) {
+		if (width < 1) throw new IllegalArgumentException("Width must be positive : " + width);
+		this.unit         = unit;
+		this.width        = width;
+		this.bucketMillis = Math.multiplyExact(unit.getMillis(), width);
+		this.firstBucket  = bucketOfMillis(from.toEpochMillis());
+		long lastBucket = bucketOfMillis(to.toEpochMillis() - 1);
+		if (lastBucket < firstBucket) throw new IllegalArgumentException("Range is empty : " + from + " - " + to);
+		long size = lastBucket - firstBucket + 1;
+		if (size <= 0 || size > MAX_BUCKETS) throw new IllegalArgumentException("Range cannot have more than " + MAX_BUCKETS + " buckets : " + from + " - " + to);
+		this.counts = new long[(int) size];
+		this.sums   = new long[(int) size];
+	}
+
+	/**
+	 * @return the unit of the bucket width
+	 */
+	@NotNull
+	public DurationUnit getUnit() {
+		return unit;
+	}
+
+	/**
+	 * @return the number of units in a bucket
+	 */
+	public long getWidth() {
+		return width;
+	}
+
+	/**
+	 * @return the number of buckets in the range
+	 */
+	public int size() {
+		return counts.length;
+	}
+
+	/**
+	 * Returns the bucket id of the given time, the same for all times in a bucket.
+	 *
+	 * @param times the time
+	 * @return the bucket id
+	 * @throws ArithmeticException if the time does not fit in the epoch milliseconds
+	 */
+	public long bucketOf(@NotNull Times times) {
+		return bucketOfMillis(times.toEpochMillis());
+	}
+
+	/**
+	 * Returns the bucket id of the given packed time.
+	 *
+	 * @param packed the packed time
+	 * @return the bucket id
+	 */
+	public long bucketOfPacked(long packed) {
+		return bucketOfMillis(DigitCalendar.toEpochMillisPacked(packed));
+	}
+
+	/**
+	 * Returns the bucket id of the given epoch milliseconds.
+	 *
+	 * @param epochMillis the milliseconds from {@code 1970-1-1 00:00:00:000}
+	 * @return the bucket id
+	 */
+	public long bucketOfMillis(long epochMillis) {
+		return Math.floorDiv(epochMillis, bucketMillis);
+	}
+
+	/**
+	 * Returns the index of the given bucket id in the range.
+	 *
+	 * @param bucket the bucket id
+	 * @return the index of the bucket, or {@code -1} if it is out of the range
+	 */
+	public int indexOf(long bucket) {
+		long index = bucket - firstBucket;
+		return index >= 0 && index < counts.length ? (int) index : -1;
+	}
+
+	/**
+	 * Returns the start of the bucket with the given id, the bucket ids are turned into times only here.
+	 *
+	 * @param bucket the bucket id
+	 * @return new {@code Times}
+	 */
+	@NotNull
+	public Times getStartOf(long bucket) {
+		return DigitCalendar.ofEpochMillisPacked(bucket * bucketMillis);
+	}
+
+	/**
+	 * Returns the start of the bucket at the given index.
+	 *
+	 * @param index the index of the bucket
+	 * @return new {@code Times}
+	 * @throws IndexOutOfBoundsException if the index is out of the range
+	 */
+	@NotNull
+	public Times getStart(int index) {
+		return getStartOf(firstBucket + checkIndex(index));
+	}
+
+	/**
+	 * Counts the given time in its bucket.
+	 *
+	 * @param times the time
+	 * @return the index of the bucket, or {@code -1} if it is out of the range
+	 */
+	public int add(@NotNull Times times) {
+		return add(times, 0);
+	}
+
+	/**
+	 * Counts the given time in its bucket and adds the value to the sum of the bucket.
+	 *
+	 * @param times the time
+	 * @param value the value to add
+	 * @return the index of the bucket, or {@code -1} if it is out of the range
+	 */
+	public int add(@NotNull Times times, long value) {
+		return addToBucket(bucketOf(times), value);
+	}
+
+	/**
+	 * Counts the given packed time in its bucket.
+	 *
+	 * @param packed the packed time
+	 * @return the index of the bucket, or {@code -1} if it is out of the range
+	 */
+	public int addPacked(long packed) {
+		return addPacked(packed, 0);
+	}
+
+	/**
+	 * Counts the given packed time in its bucket and adds the value to the sum of the bucket.
+	 *
+	 * @param packed the packed time
+	 * @param value  the value to add
+	 * @return the index of the bucket, or {@code -1} if it is out of the range
+	 */
+	public int addPacked(long packed, long value) {
+		return addToBucket(bucketOfPacked(packed), value);
+	}
+
+	/**
+	 * Counts all times of the given series in their buckets.
+	 *
+	 * @param series the series
+	 */
+	public void addAll(@NotNull TimesSeries series) {
+		long[] packed = series.array();
+		for (int i = 0, size = series.size(); i < size; i++) addToBucket(bucketOfPacked(packed[i]), 0);
+	}
+
+	private int addToBucket(long bucket, long value) {
+		int index = indexOf(bucket);
+		if (index < 0) {
+			outOfRange++;
+			return -1;
+		}
+		counts[index]++;
+		sums[index] += value;
+		return index;
+	}
+
+	/**
+	 * @param index the index of the bucket
+	 * @return the number of the times in the bucket
+	 * @throws IndexOutOfBoundsException if the index is out of the range
+	 */
+	public long getCount(int index) {
+		return counts[checkIndex(index)];
+	}
+
+	/**
+	 * @param index the index of the bucket
+	 * @return the sum of the values added to the bucket
+	 * @throws IndexOutOfBoundsException if the index is out of the range
+	 */
+	public long getSum(int index) {
+		return sums[checkIndex(index)];
+	}
+
+	/**
+	 * @return a copy of the counts of all buckets
+	 */
+	public long @NotNull [] toCountArray() {
+		return counts.clone();
+	}
+
+	/**
+	 * @return a copy of the sums of all buckets
+	 */
+	public long @NotNull [] toSumArray() {
+		return sums.clone();
+	}
+
+	/**
+	 * @return the number of the times that are out of the range
+	 */
+	public long getOutOfRange() {
+		return outOfRange;
+	}
+
+	/**
+	 * Sets all counts and sums to zero.
+	 */
+	public void clear() {
+		Arrays.fill(counts, 0L);
+		Arrays.fill(sums, 0L);
+		outOfRange = 0;
+	}
+
+	private int checkIndex(int index) {
+		if (index < 0 || index >= counts.length) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + counts.length + " buckets");
+		return index;
+	}
+
+	@Override
+	public String toString() {
+		return "TimeBucketer[" + width + " " + unit + ", " + getStart(0) + ", " + counts.length + " buckets]";
+	}
+}
@@ -2,7 +2,9 @@ package tr.xyz.times;
 
 import org.jetbrains.annotations.NotNull;
 import tr.xyz.digit.Digit;
+import tr.xyz.digit.DigitMath;
 import tr.xyz.digit.SimpleDigit;
+import tr.xyz.durations.DurationUnit;
 
 /**
  * {@code TimeDigit} is a {@link Digit} which represents a time duration.
@@ -29,6 +31,8 @@ import tr.xyz.digit.SimpleDigit;
  *     The cycle count is the number of times the digit has been cycled. And if this value is negative,
  *     this means that the digit has been cycled from the minimum limit (like above).
  *     If the cycle count is positive, it means that the digit has been cycled from the maximum limit.
+ *     The digits created by this interface carry the cycle count to their left digits in a single loop,
+ *     {@link TimeDigit#onCycle(long)} is only called for the other implementations of the left digit.
  *
  * <p>
  *     This is noting else than a mutable {@link Digit}.
@@ -45,13 +49,37 @@ public interface TimeDigit extends Digit, Comparable<TimeDigit> {
 	 */
 	@SuppressWarnings("unchecked")
 	static <T extends TimeDigit> T of(Class<T> clazz, long value) {
-		if (clazz == Millisecond.class) return (T) millisecond(value);
-		if (clazz == Second.class) return (T) second(value);
-		if (clazz == Minute.class) return (T) minute(value);
-		if (clazz == Hour.class) return (T) hour(value);
-		if (clazz == Day.class) return (T) day(value);
-		if (clazz == Month.class) return (T) month(value);
-		if (clazz == Year.class) return (T) year(value);
+		return (T) of(unitOf(clazz), value);
+	}
+	
+	/**
+	 * Returns a new {@link TimeDigit} with the given unit and value.
+	 *
+	 * @param unit  unit of the new {@link TimeDigit}
+	 * @param value value of the new {@link TimeDigit}
+	 * @return a new {@link TimeDigit}
+	 */
+	@NotNull
+	static TimeDigit of(@NotNull DurationUnit unit, long value) {
+		return switch (unit) {
+			case MILLISECOND -> millisecond(value);
+			case SECOND -> second(value);
+			case MINUTE -> minute(value);
+			case HOUR -> hour(value);
+			case DAY -> day(value);
+			case MONTH -> month(value);
+			case YEAR -> year(value);
+		};
+	}
+	
+	private static DurationUnit unitOf(Class<? extends TimeDigit> clazz) {
+		if (clazz == Millisecond.class) return DurationUnit.MILLISECOND;
+		if (clazz == Second.class) return DurationUnit.SECOND;
+		if (clazz == Minute.class) return DurationUnit.MINUTE;
+		if (clazz == Hour.class) return DurationUnit.HOUR;
+		if (clazz == Day.class) return DurationUnit.DAY;
+		if (clazz == Month.class) return DurationUnit.MONTH;
+		if (clazz == Year.class) return DurationUnit.YEAR;
 		throw new IllegalArgumentException();
 	}
 	
@@ -139,6 +167,26 @@ public interface TimeDigit extends Digit, Comparable<TimeDigit> {
 		return new YearImpl(value);
 	}
 	
+	/**
+	 * Returns the unit of this digit.
+	 * The default implementation finds the unit from the implemented digit interface, like {@link Second},
+	 * the built-in implementations return their constant unit.
+	 *
+	 * @return the unit of this digit
+	 * @throws IllegalStateException if the digit does not implement a digit interface
+	 */
+	@NotNull
+	default DurationUnit getUnit() {
+		if (this instanceof Millisecond) return DurationUnit.MILLISECOND;
+		else if (this instanceof Second) return DurationUnit.SECOND;
+		else if (this instanceof Minute) return DurationUnit.MINUTE;
+		else if (this instanceof Hour) return DurationUnit.HOUR;
+		else if (this instanceof Day) return DurationUnit.DAY;
+		else if (this instanceof Month) return DurationUnit.MONTH;
+		else if (this instanceof Year) return DurationUnit.YEAR;
+		else throw new IllegalStateException("Unknown time digit type : " + getClass().getName());
+	}
+	
 	/**
 	 * Called when the digit when cycled.
 	 *
@@ -171,10 +219,32 @@ abstract class AbstractTimeDigit extends SimpleDigit implements TimeDigit {
 		return value;
 	}
 	
-	private void setValue(long value) {
-		var result = computeValue(value);
-		this.value = result[0];
-		setCycleCount(cycleCount = result[1]);
+	/**
+	 * Adds the given value without notifying the left digit.
+	 *
+	 * @return the cycle count
+	 */
+	private long carry(long carry) {
+		long value = this.value + carry;
+		this.value = DigitMath.wrap(value, getMin(), getMax());
+		return cycleCount = DigitMath.cycles(value, getMin(), getMax());
+	}
+	
+	/**
+	 * Carries the cycle count to the left digits in one loop.
+	 * The left digits of this type are carried directly,
+	 * any other {@link TimeDigit} gets the carry by {@link #onCycle(long)} and the loop ends there.
+	 */
+	private void propagate(long carry) {
+		var digit = this;
+		while (carry != 0L && digit.leftDigit != null) {
+			if (!(digit.leftDigit instanceof AbstractTimeDigit left)) {
+				digit.leftDigit.onCycle(carry);
+				return;
+			}
+			carry = left.carry(carry);
+			digit = left;
+		}
 	}
 	
 	@Override
@@ -182,10 +252,6 @@ abstract class AbstractTimeDigit extends SimpleDigit implements TimeDigit {
 		return cycleCount;
 	}
 	
-	private void setCycleCount(long cycleCount) {
-		if (cycleCount != 0L && leftDigit != null) leftDigit.onCycle(cycleCount);
-	}
-	
 	@Override
 	public @NotNull Digit increment() {
 		return plus(1);
@@ -198,13 +264,13 @@ abstract class AbstractTimeDigit extends SimpleDigit implements TimeDigit {
 	
 	@Override
 	public @NotNull Digit plus(long plus) {
-		setValue(this.value + plus);
+		propagate(carry(plus));
 		return this;
 	}
 	
 	@Override
 	public @NotNull Digit minus(long minus) {
-		setValue(this.value - minus);
+		propagate(carry(-minus));
 		return this;
 	}
 	
@@ -232,41 +298,76 @@ final class MillisecondImpl extends AbstractTimeDigit implements Millisecond {
 	public MillisecondImpl(long value) {
 		super(value, TimeDigitRange.MILLISECONDS);
 	}
+	
+	@Override
+	public @NotNull DurationUnit getUnit() {
+		return DurationUnit.MILLISECOND;
+	}
 }
 
 final class SecondImpl extends AbstractTimeDigit implements Second {
 	public SecondImpl(long value) {
 		super(value, TimeDigitRange.SECONDS);
 	}
+	
+	@Override
+	public @NotNull DurationUnit getUnit() {
+		return DurationUnit.SECOND;
+	}
 }
 
 final class MinuteImpl extends AbstractTimeDigit implements Minute {
 	public MinuteImpl(long value) {
 		super(value, TimeDigitRange.MINUTES);
 	}
+	
+	@Override
+	public @NotNull DurationUnit getUnit() {
+		return DurationUnit.MINUTE;
+	}
 }
 
 final class HourImpl extends AbstractTimeDigit implements Hour {
 	public HourImpl(long value) {
 		super(value, TimeDigitRange.HOURS);
 	}
+	
+	@Override
+	public @NotNull DurationUnit getUnit() {
+		return DurationUnit.HOUR;
+	}
 }
 
 final class DayImpl extends AbstractTimeDigit implements Day {
 	public DayImpl(long value) {
 		super(value, TimeDigitRange.DAYS);
 	}
+	
+	@Override
+	public @NotNull DurationUnit getUnit() {
+		return DurationUnit.DAY;
+	}
 }
 
 final class MonthImpl extends AbstractTimeDigit implements Month {
 	public MonthImpl(long value) {
 		super(value, TimeDigitRange.MONTHS);
 	}
+	
+	@Override
+	public @NotNull DurationUnit getUnit() {
+		return DurationUnit.MONTH;
+	}
 }
 
 final class YearImpl extends AbstractTimeDigit implements Year {
 	public YearImpl(long value) {
 		super(value, TimeDigitRange.YEARS);
 	}
+	
+	@Override
+	public @NotNull DurationUnit getUnit() {
+		return DurationUnit.YEAR;
+	}
 }
 
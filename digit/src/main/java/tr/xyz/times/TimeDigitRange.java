@@ -1,11 +1,20 @@
 package tr.xyz.times;
 
 import tr.xyz.digit.Digit;
+import tr.xyz.digit.DigitCache;
 
 /**
  * Defines the ranges of {@link TimeDigit} unit durations.
  */
 abstract class TimeDigitRange {
+	static {
+		DigitCache.register(0, 999);
+		DigitCache.register(0, 59);
+		DigitCache.register(0, 23);
+		DigitCache.register(1, 30);
+		DigitCache.register(1, 12);
+	}
+	
 	/**
 	 * The range of {@link Millisecond} ({@code 0-999}).
 	 */
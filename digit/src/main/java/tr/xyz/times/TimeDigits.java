@@ -2,20 +2,13 @@ package tr.xyz.times;
 
 import lombok.Getter;
 import org.jetbrains.annotations.NotNull;
-import tr.xyz.durations.*;
-import tr.xyz.durations.Day;
-import tr.xyz.durations.Hour;
-import tr.xyz.durations.Millisecond;
-import tr.xyz.durations.Minute;
-import tr.xyz.durations.Month;
-import tr.xyz.durations.Second;
-import tr.xyz.durations.Year;
+import tr.xyz.durations.Duration;
+import tr.xyz.durations.DurationUnit;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
-import java.util.Objects;
 
 @Getter
 public final class TimeDigits implements Times {
@@ -67,69 +60,110 @@ public final class TimeDigits implements Times {
 		month.leftDigit(year);
 	}
 	
+	/**
+	 * Carries the given values into their range in one pass from the millisecond to the year,
+	 * and creates the result once. No {@code java.time} validation is made.
+	 */
+	@NotNull
+	private static TimeDigits carry(long year, long month, long day, long hour, long minute, long second, long millisecond) {
+		return PackedTimes.carryDigits(year, month, day, hour, minute, second, millisecond).toTimeDigits();
+	}
+	
+	@NotNull
+	private TimeDigits plusFields(long year, long month, long day, long hour, long minute, long second, long millisecond) {
+		return carry(this.year.getValue() + year,
+		             this.month.getValue() + month,
+		             this.day.getValue() + day,
+		             this.hour.getValue() + hour,
+		             this.minute.getValue() + minute,
+		             this.second.getValue() + second,
+		             this.millisecond.getValue() + millisecond);
+	}
+	
 	@Override
 	public @NotNull Times plus(@NotNull Times times) {
-		TimeDigits first = new TimeDigits(this.toLocalDateTime());
-		first.millisecond.plus(times.getMillisecond().getValue());
-		first.second.plus(times.getSecond().getValue());
-		first.minute.plus(times.getMinute().getValue());
-		first.hour.plus(times.getHour().getValue());
-		first.day.plus(times.getDay().getValue());
-		first.month.plus(times.getMonth().getValue());
-		first.year.plus(times.getYear().getValue());
-		return first;
+		return plusFields(times.getYear().getValue(),
+		                  times.getMonth().getValue(),
+		                  times.getDay().getValue(),
+		                  times.getHour().getValue(),
+		                  times.getMinute().getValue(),
+		                  times.getSecond().getValue(),
+		                  times.getMillisecond().getValue());
 	}
 	
 	@Override
 	public @NotNull Times plus(@NotNull Duration duration) {
-		TimeDigits time = new TimeDigits(this.toLocalDateTime());
-		if (duration instanceof Millisecond) time.millisecond.plus(duration.getValue());
-		else if (duration instanceof Second) time.second.plus(duration.getValue());
-		else if (duration instanceof Minute) time.minute.plus(duration.getValue());
-		else if (duration instanceof Hour) time.hour.plus(duration.getValue());
-		else if (duration instanceof Day) time.day.plus(duration.getValue());
-		else if (duration instanceof Month) time.month.plus(duration.getValue());
-		else if (duration instanceof Year) time.year.plus(duration.getValue());
-		return time;
+		return plus(duration.getUnit(), duration.getValue());
 	}
 	
 	@Override
 	public @NotNull Times plus(@NotNull TimeDigit timeDigit) {
-		TimeDigits time = new TimeDigits(toLocalDateTime());
-		if (timeDigit instanceof tr.xyz.times.Millisecond) time.millisecond.plus(timeDigit.getValue());
-		if (timeDigit instanceof tr.xyz.times.Second) time.second.plus(timeDigit.getValue());
-		if (timeDigit instanceof tr.xyz.times.Minute) time.minute.plus(timeDigit.getValue());
-		if (timeDigit instanceof tr.xyz.times.Hour) time.hour.plus(timeDigit.getValue());
-		if (timeDigit instanceof tr.xyz.times.Day) time.day.plus(timeDigit.getValue());
-		if (timeDigit instanceof tr.xyz.times.Month) time.month.plus(timeDigit.getValue());
-		if (timeDigit instanceof tr.xyz.times.Year) time.year.plus(timeDigit.getValue());
-		return time;
+		return plus(timeDigit.getUnit(), timeDigit.getValue());
+	}
+	
+	@Override
+	public @NotNull Times plus(@NotNull DurationUnit unit, long amount) {
+		return switch (unit) {
+			case MILLISECOND -> plusFields(0, 0, 0, 0, 0, 0, amount);
+			case SECOND -> plusFields(0, 0, 0, 0, 0, amount, 0);
+			case MINUTE -> plusFields(0, 0, 0, 0, amount, 0, 0);
+			case HOUR -> plusFields(0, 0, 0, amount, 0, 0, 0);
+			case DAY -> plusFields(0, 0, amount, 0, 0, 0, 0);
+			case MONTH -> plusFields(0, amount, 0, 0, 0, 0, 0);
+			case YEAR -> plusFields(amount, 0, 0, 0, 0, 0, 0);
+		};
 	}
 	
 	@Override
 	public @NotNull Times between(@NotNull Times timeDigits) {
+		long otherYear = timeDigits.getYear().getValue();
+		if (DigitCalendar.isSubtractable(year.getValue(), otherYear)) {
+			long distance = DigitCalendar.toMillis(this) - DigitCalendar.toMillis(timeDigits);
+			if (distance == 0L) return new TimeDigits(0, 1, 1);
+			return ofDistance(Math.abs(distance));
+		}
 		
-		Times first;
-		Times second;
-		
-		if (this.compareTo(timeDigits) > 0) {
-			first  = new TimeDigits(this.toLocalDateTime());
-			second = timeDigits;
+		int order = compareTo(timeDigits);
+		if (order == 0) return new TimeDigits(0, 1, 1);
+		Times first  = order > 0 ? this : timeDigits;
+		Times second = order > 0 ? timeDigits : this;
+		return carry(first.getYear().getValue() - second.getYear().getValue(),
+		             first.getMonth().getValue() - second.getMonth().getValue(),
+		             first.getDay().getValue() - second.getDay().getValue(),
+		             first.getHour().getValue() - second.getHour().getValue(),
+		             first.getMinute().getValue() - second.getMinute().getValue(),
+		             first.getSecond().getValue() - second.getSecond().getValue(),
+		             first.getMillisecond().getValue() - second.getMillisecond().getValue());
+	}
+	
+	/**
+	 * Decomposes the given positive linear milliseconds into the {@link #between(Times)} form.
+	 * Like the digit subtraction, a day or month that becomes zero is cycled to its maximum
+	 * by taking one from the left digit. So that {@code second.plus(first.between(second))} is {@code first}.
+	 */
+	@NotNull
+	private static TimeDigits ofDistance(long millis) {
+		long millisecond = millis % 1000;
+		millis /= 1000;
+		long second = millis % 60;
+		millis /= 60;
+		long minute = millis % 60;
+		millis /= 60;
+		long hour = millis % 24;
+		millis /= 24;
+		long day = millis % 30;
+		millis /= 30;
+		long month = millis % 12;
+		long year  = millis / 12;
+		if (day == 0) {
+			day = 30;
+			month--;
 		}
-		else if (this.compareTo(timeDigits) < 0) {
-			first  = new TimeDigits(timeDigits.toLocalDateTime());
-			second = this;
+		if (month <= 0) {
+			month += 12;
+			year--;
 		}
-		else return new TimeDigits(LocalDateTime.of(0, 1, 1, 0, 0, 0));
-		
-		first.getMillisecond().minus(second.getMillisecond().getValue());
-		first.getSecond().minus(second.getSecond().getValue());
-		first.getMinute().minus(second.getMinute().getValue());
-		first.getHour().minus(second.getHour().getValue());
-		first.getDay().minus(second.getDay().getValue());
-		first.getMonth().minus(second.getMonth().getValue());
-		first.getYear().minus(second.getYear().getValue());
-		return first;
+		return new TimeDigits(year, month, day, hour, minute, second, millisecond);
 	}
 	
 	@Override
@@ -144,14 +178,15 @@ public final class TimeDigits implements Times {
 	
 	@Override
 	public @NotNull Times with(@NotNull TimeDigit timeDigit) {
-		if (timeDigit instanceof Millisecond) return withMillisecond(timeDigit.getValue());
-		if (timeDigit instanceof Second) return withSecond(timeDigit.getValue());
-		if (timeDigit instanceof Minute) return withMinute(timeDigit.getValue());
-		if (timeDigit instanceof Hour) return withHour(timeDigit.getValue());
-		if (timeDigit instanceof Day) return withDay(timeDigit.getValue());
-		if (timeDigit instanceof Month) return withMonth(timeDigit.getValue());
-		if (timeDigit instanceof Year) return withYear(timeDigit.getValue());
-		return this;
+		return switch (timeDigit.getUnit()) {
+			case MILLISECOND -> withMillisecond(timeDigit.getValue());
+			case SECOND -> withSecond(timeDigit.getValue());
+			case MINUTE -> withMinute(timeDigit.getValue());
+			case HOUR -> withHour(timeDigit.getValue());
+			case DAY -> withDay(timeDigit.getValue());
+			case MONTH -> withMonth(timeDigit.getValue());
+			case YEAR -> withYear(timeDigit.getValue());
+		};
 	}
 	
 	private @NotNull Times withYear(long value) {
@@ -182,6 +217,19 @@ public final class TimeDigits implements Times {
 		return new TimeDigits(year.getValue(), month.getValue(), day.getValue(), hour.getValue(), minute.getValue(), second.getValue(), value);
 	}
 	
+	@Override
+	public @NotNull Times truncatedTo(@NotNull DurationUnit unit) {
+		return switch (unit) {
+			case MILLISECOND -> copy();
+			case SECOND -> new TimeDigits(year.getValue(), month.getValue(), day.getValue(), hour.getValue(), minute.getValue(), second.getValue(), 0);
+			case MINUTE -> new TimeDigits(year.getValue(), month.getValue(), day.getValue(), hour.getValue(), minute.getValue(), 0, 0);
+			case HOUR -> new TimeDigits(year.getValue(), month.getValue(), day.getValue(), hour.getValue(), 0, 0, 0);
+			case DAY -> new TimeDigits(year.getValue(), month.getValue(), day.getValue(), 0, 0, 0, 0);
+			case MONTH -> new TimeDigits(year.getValue(), month.getValue(), 1, 0, 0, 0, 0);
+			case YEAR -> new TimeDigits(year.getValue(), 1, 1, 0, 0, 0, 0);
+		};
+	}
+	
 	@Override
 	public int compareTo(@NotNull Times o) {
 		if (this.year.compareTo(o.getYear()) != 0) return this.year.compareTo(o.getYear());
@@ -196,7 +244,7 @@ public final class TimeDigits implements Times {
 	
 	@Override
 	public String toString() {
-		return String.format("%d-%d-%d %02d:%02d:%02d:%03d", year.getValue(), month.getValue(), day.getValue(), hour.getValue(), minute.getValue(), second.getValue(), millisecond.getValue());
+		return TimesFormatter.format(this);
 	}
 	
 	@Override
@@ -206,6 +254,6 @@ public final class TimeDigits implements Times {
 	
 	@Override
 	public int hashCode() {
-		return Objects.hash(year, month, day, hour, minute, second, millisecond);
+		return PackedTimes.hash(year.getValue(), PackedTimes.pack(0, month.getValue(), day.getValue(), hour.getValue(), minute.getValue(), second.getValue(), millisecond.getValue()));
 	}
 }
@@ -3,11 +3,9 @@ package tr.xyz.times;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Range;
 import tr.xyz.durations.Duration;
+import tr.xyz.durations.DurationUnit;
 
-import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.ZoneOffset;
 
 
 /**
@@ -134,17 +132,83 @@ public interface Times extends Comparable<Times> {
 	}
 	
 	/**
-	 * Returns epoch time.
+	 * Returns current time like {@link #now()}, but it is computed from {@link System#currentTimeMillis()}
+	 * without creating {@code java.time} objects.
+	 * The offset of the system default zone is found in the {@link ZoneTable#systemDefault() table} of the zone.
+	 *
+	 * @return new {@code Times}
+	 */
+	@NotNull
+	static Times nowFast() {
+		return SystemClock.now();
+	}
+	
+	/**
+	 * Returns current time like {@link #nowFast()}, but if the {@link CoarseClock} is started,
+	 * it is the time stored by its daemon thread with a single volatile read, at most about its resolution old.
+	 *
+	 * @return new {@code Times}
+	 */
+	@NotNull
+	static Times nowCoarse() {
+		return CoarseClock.now();
+	}
+	
+	/**
+	 * Creates new {@code Times} from the given milliseconds of the {@link TimeDigitRange} calendar
+	 * (a month is {@code 30} days, a year is {@code 12} months) from {@code 1970-1-1 00:00:00:000}.
+	 * This is the inverse of {@link #toEpochMillis()}.
+	 * <br>
+	 * {@snippet lang = java:
+	 * var time = Times.of(2024, 2, 30, 14, 50);
+	 * Assertions.assertEquals(time, Times.ofEpochMillis(time.toEpochMillis()));
+	 *}
+	 *
+	 * @param epochMillis milliseconds from {@code 1970-1-1 00:00:00:000}
+	 * @return new {@code Times}
+	 */
+	@NotNull
+	static Times ofEpochMillis(long epochMillis) {
+		return DigitCalendar.ofEpochMillis(epochMillis);
+	}
+	
+	/**
+	 * Creates new {@code Times} from the text written by {@link Object#toString()}, like {@code 2024-5-6 14:50:00:000}.
+	 * See {@link TimesParser} for the details.
+	 *
+	 * @param text the text to parse
+	 * @return new {@code Times}
+	 * @throws java.time.format.DateTimeParseException if the text is not a valid time
+	 */
+	@NotNull
+	static Times parse(@NotNull CharSequence text) {
+		return TimesParser.parse(text);
+	}
+	
+	/**
+	 * Creates new {@code Times} from the ASCII bytes of the text written by {@link Object#toString()}.
+	 * See {@link TimesParser} for the details.
+	 *
+	 * @param src    the bytes to parse
+	 * @param offset the index of the first byte
+	 * @param length the number of bytes
+	 * @return new {@code Times}
+	 * @throws java.time.format.DateTimeParseException if the bytes are not a valid time
+	 */
+	@NotNull
+	static Times parse(byte @NotNull [] src, int offset, int length) {
+		return TimesParser.parse(src, offset, length);
+	}
+	
+	/**
+	 * Returns epoch time, shifted by the current offset of the system default zone.
+	 * The offset is found in the {@link ZoneTable#systemDefault() table} of the zone.
 	 *
 	 * @return new {@code Times}
 	 */
 	@NotNull
 	static Times epoch() {
-		return new TimeDigits(
-				LocalDateTime.ofEpochSecond(
-						0,
-						0,
-						ZoneOffset.of(ZoneId.systemDefault().getRules().getOffset(Instant.now()).getId())));
+		return SystemClock.ofLocalMillis(ZoneTable.systemDefault().offsetMillis(System.currentTimeMillis()));
 	}
 	
 	/**
@@ -173,6 +237,19 @@ public interface Times extends Comparable<Times> {
 	@NotNull
 	Times plus(@NotNull Duration duration);
 	
+	/**
+	 * Returns new {@code Times} with the given amount of the unit added to this.
+	 * The default implementation adds the {@link Duration} of the amount, the built-in implementations add it without creating one.
+	 *
+	 * @param unit   the unit of the amount
+	 * @param amount the amount to add
+	 * @return new {@code Times}
+	 */
+	@NotNull
+	default Times plus(@NotNull DurationUnit unit, long amount) {
+		return plus(Duration.of(unit, amount));
+	}
+	
 	/**
 	 * Returns new {@code Times} with the given {@link TimeDigit} added to this.
 	 *
@@ -191,6 +268,59 @@ public interface Times extends Comparable<Times> {
 	@NotNull
 	Times between(@NotNull Times times);
 	
+	/**
+	 * Returns the milliseconds of this time from {@code 1970-1-1 00:00:00:000} in the {@link TimeDigitRange} calendar
+	 * (a month is {@code 30} days, a year is {@code 12} months).
+	 * This is not the epoch of {@link System#currentTimeMillis()}, the calendars are different.
+	 *
+	 * @return the epoch milliseconds
+	 * @throws ArithmeticException if the result does not fit in a {@code long} (years about {@code 296} million away from the epoch)
+	 */
+	default long toEpochMillis() {
+		return DigitCalendar.toEpochMillis(this);
+	}
+	
+	/**
+	 * Returns the milliseconds between this and the given {@code Times}.
+	 * Like {@link #between(Times)}, the result does not depend on the order, it is never negative.
+	 * Months are {@code 30} days and years are {@code 12} months.
+	 *
+	 * @param times the given {@code Times}
+	 * @return the milliseconds between the times
+	 * @throws ArithmeticException if a year is out of the linear range or the result does not fit in a {@code long}
+	 */
+	default long betweenMillis(@NotNull Times times) {
+		return Math.abs(Math.subtractExact(DigitCalendar.toMillis(this), DigitCalendar.toMillis(times)));
+	}
+	
+	/**
+	 * Returns the number of the whole units between this and the given {@code Times}.
+	 * <br>
+	 * {@snippet lang = java:
+	 * var hours = Times.of(2024, 5, 6, 14, 50).betweenIn(Times.of(2024, 5, 5), Hour.class); // 38
+	 *}
+	 *
+	 * @param times the given {@code Times}
+	 * @param unit  the duration unit
+	 * @return the number of the whole units between the times
+	 * @throws ArithmeticException if a year is out of the linear range or the result does not fit in a {@code long}
+	 */
+	default long betweenIn(@NotNull Times times, @NotNull Class<? extends Duration> unit) {
+		return betweenIn(times, DurationUnit.of(unit));
+	}
+	
+	/**
+	 * Returns the number of the whole units between this and the given {@code Times}.
+	 *
+	 * @param times the given {@code Times}
+	 * @param unit  the duration unit
+	 * @return the number of the whole units between the times
+	 * @throws ArithmeticException if a year is out of the linear range or the result does not fit in a {@code long}
+	 */
+	default long betweenIn(@NotNull Times times, @NotNull DurationUnit unit) {
+		return betweenMillis(times) / unit.getMillis();
+	}
+	
 	/**
 	 * @return new {@code LocalDateTime} equals of this.
 	 */
@@ -248,4 +378,39 @@ public interface Times extends Comparable<Times> {
 	@NotNull
 	Times with(@NotNull TimeDigit timeDigit);
 	
+	/**
+	 * Returns new {@code Times} with the time digits smaller than the given unit set to their minimum.
+	 * <br>
+	 * {@snippet lang = java:
+	 * var hour = Times.of(2024, 5, 6, 14, 50, 30, 500).truncatedTo(DurationUnit.HOUR); // 2024-5-6 14:00:00:000
+	 *}
+	 *
+	 * The default implementation replaces the smaller digits one by one with {@link #with(TimeDigit)},
+	 * the built-in implementations truncate without creating the digits.
+	 *
+	 * @param unit the unit to truncate to
+	 * @return new {@code Times}
+	 */
+	@NotNull
+	default Times truncatedTo(@NotNull DurationUnit unit) {
+		Times truncated = copy();
+		for (DurationUnit smaller : DurationUnit.values()) {
+			if (smaller.compareTo(unit) >= 0) break;
+			long min = smaller == DurationUnit.DAY || smaller == DurationUnit.MONTH ? 1 : 0;
+			truncated = truncated.with(TimeDigit.of(smaller, min));
+		}
+		return truncated;
+	}
+	
+	/**
+	 * Returns new {@code Times} with the time digits smaller than the given unit set to their minimum.
+	 *
+	 * @param unit the duration unit to truncate to
+	 * @return new {@code Times}
+	 */
+	@NotNull
+	default Times truncatedTo(@NotNull Class<? extends Duration> unit) {
+		return truncatedTo(DurationUnit.of(unit));
+	}
+	
 }
@@ -0,0 +1,230 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+import tr.xyz.durations.Duration;
+
+import java.io.Serial;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Bulk {@link Times} operations over packed times, see {@link PackedTimes} and {@link TimesSeries}.
+ * <p>
+ * The operand is unpacked once per call, each element is computed from its packed value
+ * and the result is written into a primitive array, without creating a {@code Times} per element.
+ * Large arrays are split into ranges and computed in the common {@link ForkJoinPool}.
+ * <br>
+ * {@snippet lang = java:
+ * long[] distances = TimesBulk.betweenMillis(series, reference);
+ * TimesSeries later = TimesBulk.plus(series, Duration.ofDays(1));
+ *}
+ * <p>
+ * Like {@link TimesSeries}, the results must be in the packed year range,
+ * otherwise an {@link IllegalArgumentException} is thrown.
+ */
+public final class TimesBulk {
+	/**
+	 * The number of elements below which a range is computed in the calling thread.
+	 */
+	static final int PARALLEL_THRESHOLD = 1 << 13;
+
+	private TimesBulk() {}
+
+	/**
+	 * Computes {@link Times#between(Times)} of each time of the series and the reference.
+	 *
+	 * @param series    the times
+	 * @param reference the reference time
+	 * @return new series of the differences
+	 */
+	@NotNull
+	public static TimesSeries between(@NotNull TimesSeries series, @NotNull Times reference) {
+		long[] out = new long[series.size()];
+		between(series.array(), 0, out.length, reference, out);
+		return TimesSeries.wrap(out);
+	}
+
+	/**
+	 * Computes {@link Times#between(Times)} of each packed time from {@code fromIndex} (inclusive)
+	 * to {@code toIndex} (exclusive) and the reference, the packed results are written to the same indexes.
+	 *
+	 * @param packed    the packed times
+	 * @param fromIndex the first index (inclusive)
+	 * @param toIndex   the last index (exclusive)
+	 * @param reference the reference time
+	 * @param out       the array to write the packed differences, can be the {@code packed} array itself
+	 */
+	public static void between(long @NotNull [] packed, int fromIndex, int toIndex, @NotNull Times reference, long @NotNull [] out) {
+		checkRange(packed, fromIndex, toIndex, out);
+		long ref = PackedTimes.pack(reference);
+		forEachRange(fromIndex, toIndex, (from, to) -> {
+			for (int i = from; i < to; i++) out[i] = PackedTimes.betweenPacked(packed[i], ref);
+		});
+	}
+
+	/**
+	 * Computes {@link Times#betweenMillis(Times)} of each time of the series and the reference.
+	 *
+	 * @param series    the times
+	 * @param reference the reference time
+	 * @return the distances in milliseconds
+	 */
+	public static long @NotNull [] betweenMillis(@NotNull TimesSeries series, @NotNull Times reference) {
+		long[] out = new long[series.size()];
+		betweenMillis(series.array(), 0, out.length, reference, out);
+		return out;
+	}
+
+	/**
+	 * Computes {@link Times#betweenMillis(Times)} of each packed time from {@code fromIndex} (inclusive)
+	 * to {@code toIndex} (exclusive) and the reference, the results are written to the same indexes.
+	 * <p>
+	 * The packed years are small enough that the distance of any two packed times fits in a {@code long}.
+	 *
+	 * @param packed    the packed times
+	 * @param fromIndex the first index (inclusive)
+	 * @param toIndex   the last index (exclusive)
+	 * @param reference the reference time
+	 * @param out       the array to write the distances in milliseconds, can be the {@code packed} array itself
+	 */
+	public static void betweenMillis(long @NotNull [] packed, int fromIndex, int toIndex, @NotNull Times reference, long @NotNull [] out) {
+		checkRange(packed, fromIndex, toIndex, out);
+		long ref = DigitCalendar.toMillis(PackedTimes.of(reference));
+		forEachRange(fromIndex, toIndex, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				long p = packed[i];
+				out[i] = Math.abs(DigitCalendar.toMillis(PackedTimes.year(p), PackedTimes.month(p), PackedTimes.day(p), PackedTimes.hour(p), PackedTimes.minute(p), PackedTimes.second(p), PackedTimes.millisecond(p)) - ref);
+			}
+		});
+	}
+
+	/**
+	 * Computes {@link Times#plus(Duration)} of each time of the series.
+	 *
+	 * @param series   the times
+	 * @param duration the duration to add
+	 * @return new series of the results
+	 */
+	@NotNull
+	public static TimesSeries plus(@NotNull TimesSeries series, @NotNull Duration duration) {
+		long[] out = new long[series.size()];
+		plus(series.array(), 0, out.length, duration, out);
+		return TimesSeries.wrap(out);
+	}
+
+	/**
+	 * Computes {@link Times#plus(Duration)} of each packed time from {@code fromIndex} (inclusive)
+	 * to {@code toIndex} (exclusive), the packed results are written to the same indexes.
+	 *
+	 * @param packed    the packed times
+	 * @param fromIndex the first index (inclusive)
+	 * @param toIndex   the last index (exclusive)
+	 * @param duration  the duration to add
+	 * @param out       the array to write the packed results, can be the {@code packed} array itself
+	 */
+	public static void plus(long @NotNull [] packed, int fromIndex, int toIndex, @NotNull Duration duration, long @NotNull [] out) {
+		long value = duration.getValue();
+		switch (duration.getUnit()) {
+			case MILLISECOND -> plusFields(packed, fromIndex, toIndex, 0, 0, 0, 0, 0, 0, value, out);
+			case SECOND -> plusFields(packed, fromIndex, toIndex, 0, 0, 0, 0, 0, value, 0, out);
+			case MINUTE -> plusFields(packed, fromIndex, toIndex, 0, 0, 0, 0, value, 0, 0, out);
+			case HOUR -> plusFields(packed, fromIndex, toIndex, 0, 0, 0, value, 0, 0, 0, out);
+			case DAY -> plusFields(packed, fromIndex, toIndex, 0, 0, value, 0, 0, 0, 0, out);
+			case MONTH -> plusFields(packed, fromIndex, toIndex, 0, value, 0, 0, 0, 0, 0, out);
+			case YEAR -> plusFields(packed, fromIndex, toIndex, value, 0, 0, 0, 0, 0, 0, out);
+		}
+	}
+
+	/**
+	 * Computes {@link Times#plus(Times)} of each time of the series.
+	 *
+	 * @param series the times
+	 * @param times  the time to add
+	 * @return new series of the results
+	 */
+	@NotNull
+	public static TimesSeries plus(@NotNull TimesSeries series, @NotNull Times times) {
+		long[] out = new long[series.size()];
+		plus(series.array(), 0, out.length, times, out);
+		return TimesSeries.wrap(out);
+	}
+
+	/**
+	 * Computes {@link Times#plus(Times)} of each packed time from {@code fromIndex} (inclusive)
+	 * to {@code toIndex} (exclusive), the packed results are written to the same indexes.
+	 *
+	 * @param packed    the packed times
+	 * @param fromIndex the first index (inclusive)
+	 * @param toIndex   the last index (exclusive)
+	 * @param times     the time to add
+	 * @param out       the array to write the packed results, can be the {@code packed} array itself
+	 */
+	public static void plus(long @NotNull [] packed, int fromIndex, int toIndex, @NotNull Times times, long @NotNull [] out) {
+		plusFields(packed, fromIndex, toIndex,
+		           times.getYear().getValue(),
+		           times.getMonth().getValue(),
+		           times.getDay().getValue(),
+		           times.getHour().getValue(),
+		           times.getMinute().getValue(),
+		           times.getSecond().getValue(),
+		           times.getMillisecond().getValue(),
+		           out);
+	}
+
+	private static void plusFields(long[] packed, int fromIndex, int toIndex, long year, long month, long day, long hour, long minute, long second, long millisecond, long[] out) {
+		checkRange(packed, fromIndex, toIndex, out);
+		forEachRange(fromIndex, toIndex, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				long p = packed[i];
+				out[i] = PackedTimes.carryPacked(PackedTimes.year(p) + year,
+				                                 PackedTimes.month(p) + month,
+				                                 PackedTimes.day(p) + day,
+				                                 PackedTimes.hour(p) + hour,
+				                                 PackedTimes.minute(p) + minute,
+				                                 PackedTimes.second(p) + second,
+				                                 PackedTimes.millisecond(p) + millisecond);
+			}
+		});
+	}
+
+	private static void checkRange(long[] packed, int fromIndex, int toIndex, long[] out) {
+		Objects.checkFromToIndex(fromIndex, toIndex, packed.length);
+		Objects.checkFromToIndex(fromIndex, toIndex, out.length);
+	}
+
+	private static void forEachRange(int from, int to, RangeAction action) {
+		if (to - from <= PARALLEL_THRESHOLD) action.apply(from, to);
+		else ForkJoinPool.commonPool().invoke(new RangeTask(from, to, action));
+	}
+
+	@FunctionalInterface
+	private interface RangeAction {
+		void apply(int from, int to);
+	}
+
+	private static final class RangeTask extends RecursiveAction {
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		private final int         from;
+		private final int         to;
+		private final RangeAction action;
+
+		RangeTask(int from, int to, RangeAction action) {
+			this.from   = from;
+			this.to     = to;
+			this.action = action;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= PARALLEL_THRESHOLD) {
+				action.apply(from, to);
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			invokeAll(new RangeTask(from, mid, action), new RangeTask(mid, to, action));
+		}
+	}
+}
@@ -0,0 +1,200 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * {@code TimesFile} is a read-only, memory-mapped file of packed times.
+ * <p>
+ * The file has a fixed-width binary format, all numbers are big-endian:
+ * <pre>
+ * | magic (4) "TIMS" | version (2) | reserved (2) | record count (8) | records (8 each) ... |
+ * </pre>
+ * Each record is a packed time in the layout of {@link PackedTimes}.
+ * Opening a file only maps it, so it costs the same for any size,
+ * and a record is read by its index directly from the mapped pages without creating objects.
+ * <br>
+ * {@snippet lang = java:
+ * TimesFile.write(path, series);
+ * try (var file = TimesFile.open(path)) {
+ *     long last = file.getPacked(file.size() - 1);
+ * }
+ *}
+ * <p>
+ * Files larger than a single mapping are mapped in several segments.
+ * Reading is thread-safe, but the records must not be read after the file is closed.
+ */
+public final class TimesFile implements Closeable {
+	/**
+	 * The magic number at the start of the file, {@code "TIMS"} in ASCII.
+	 */
+	public static final int   MAGIC       = 0x54494D53;
+	/**
+	 * The version of the format this class writes and reads.
+	 */
+	public static final short VERSION     = 1;
+	/**
+	 * The size of the header in bytes.
+	 */
+	public static final int   HEADER_SIZE = 16;
+
+	private static final int RECORD_SIZE         = Long.BYTES;
+	private static final int SEGMENT_SHIFT       = 27;
+	private static final int RECORDS_PER_SEGMENT = 1 << SEGMENT_SHIFT;
+	private static final int SEGMENT_MASK        = RECORDS_PER_SEGMENT - 1;
+	private static final int WRITE_BUFFER_SIZE   = 1 << 16;
+
+	private final FileChannel        channel;
+	private final MappedByteBuffer[] segments;
+	private final long               size;
+
+	private TimesFile(FileChannel channel, MappedByteBuffer[] segments, long size) {
+		this.channel  = channel;
+		this.segments = segments;
+		this.size     = size;
+	}
+
+	/**
+	 * Writes the given series to the file, the file is created or replaced.
+	 *
+	 * @param path   the file
+	 * @param series the times to write
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(@NotNull Path path, @NotNull TimesSeries series) throws IOException {
+		write(path, series.array(), 0, series.size());
+	}
+
+	/**
+	 * Writes the given packed times from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive)
+	 * to the file, the file is created or replaced.
+	 *
+	 * @param path      the file
+	 * @param packed    the packed times
+	 * @param fromIndex the first index (inclusive)
+	 * @param toIndex   the last index (exclusive)
+	 * @throws IOException if an I/O error occurs
+	 */
+	public static void write(@NotNull Path path, long @NotNull [] packed, int fromIndex, int toIndex) throws IOException {
+		Objects.checkFromToIndex(fromIndex, toIndex, packed.length);
+		try (var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			var buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+			buffer.putInt(MAGIC).putShort(VERSION).putShort((short) 0).putLong(toIndex - fromIndex);
+			for (int i = fromIndex; i < toIndex; i++) {
+				if (buffer.remaining() < RECORD_SIZE) drain(channel, buffer);
+				buffer.putLong(packed[i]);
+			}
+			drain(channel, buffer);
+		}
+	}
+
+	private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) channel.write(buffer);
+		buffer.clear();
+	}
+
+	/**
+	 * Opens and maps the given file.
+	 *
+	 * @param path the file
+	 * @return new {@code TimesFile}
+	 * @throws IOException if an I/O error occurs, or the file is not a valid times file
+	 */
+	@NotNull
+	public static TimesFile open(@NotNull Path path) throws IOException {
+		var channel = FileChannel.open(path, StandardOpenOption.READ);
+		try {
+			long fileSize = channel.size();
+			if (fileSize < HEADER_SIZE) throw new IOException("Not a times file, too short : " + path);
+			var header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+			if (header.getInt(0) != MAGIC) throw new IOException("Not a times file, wrong magic : " + path);
+			short version = header.getShort(4);
+			if (version != VERSION) throw new IOException("Unsupported times file version " + version + " : " + path);
+			long size = header.getLong(8);
+			if (size < 0 || size > (fileSize - HEADER_SIZE) / RECORD_SIZE) throw new IOException("Times file is truncated, expected " + size + " records : " + path);
+
+			var segments = new MappedByteBuffer[(int) ((size + RECORDS_PER_SEGMENT - 1) >>> SEGMENT_SHIFT)];
+			for (int i = 0; i < segments.length; i++) {
+				long first = (long) i << SEGMENT_SHIFT;
+				long count = Math.min(RECORDS_PER_SEGMENT, size - first);
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * RECORD_SIZE, count * RECORD_SIZE);
+			}
+			return new TimesFile(channel, segments, size);
+		}
+		catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * @return the number of records in the file
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * @param index the index of the record
+	 * @return the packed time of the record
+	 * @throws IndexOutOfBoundsException if the index is out of the file
+	 */
+	public long getPacked(long index) {
+		Objects.checkIndex(index, size);
+		return segments[(int) (index >>> SEGMENT_SHIFT)].getLong((int) (index & SEGMENT_MASK) * RECORD_SIZE);
+	}
+
+	/**
+	 * @param index the index of the record
+	 * @return the time of the record
+	 * @throws IndexOutOfBoundsException if the index is out of the file
+	 */
+	@NotNull
+	public PackedTimes get(long index) {
+		return PackedTimes.ofPacked(getPacked(index));
+	}
+
+	/**
+	 * Reads the records from {@code fromIndex} into the given array.
+	 *
+	 * @param fromIndex the index of the first record
+	 * @param out       the array to write the packed times
+	 * @param offset    the first index of the array
+	 * @param length    the number of records to read
+	 * @throws IndexOutOfBoundsException if the records or the array range are out of bounds
+	 */
+	public void readPacked(long fromIndex, long @NotNull [] out, int offset, int length) {
+		Objects.checkFromIndexSize(fromIndex, length, size);
+		Objects.checkFromIndexSize(offset, length, out.length);
+		for (int i = 0; i < length; i++) out[offset + i] = getPacked(fromIndex + i);
+	}
+
+	/**
+	 * Reads the records from {@code fromIndex} into a new series.
+	 *
+	 * @param fromIndex the index of the first record
+	 * @param length    the number of records to read
+	 * @return new series
+	 * @throws IndexOutOfBoundsException if the records are out of the file
+	 */
+	@NotNull
+	public TimesSeries read(long fromIndex, int length) {
+		long[] out = new long[length];
+		readPacked(fromIndex, out, 0, length);
+		return TimesSeries.wrap(out);
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
@@ -0,0 +1,179 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Formats {@link Times} in the {@code y-M-d HH:mm:ss:SSS} layout of {@link TimeDigits#toString()},
+ * like {@code 2024-5-6 14:50:00:000}, without {@link String#format(String, Object...)}.
+ * <p>
+ * The digits are written directly into the given {@link StringBuilder}, {@link Appendable} or {@code byte[]},
+ * no boxing and no intermediate object is created.
+ * The character forms keep the rendered prefix (all digits except the millisecond) of the last time per thread,
+ * and only rewrite the millisecond if the next time differs from the last one only by the millisecond,
+ * which is the common case of logging.
+ * <br>
+ * {@snippet lang = java:
+ * var builder = new StringBuilder();
+ * TimesFormatter.format(Times.of(2024, 5, 6, 14, 50), builder); // 2024-5-6 14:50:00:000
+ *}
+ */
+public final class TimesFormatter {
+	/**
+	 * The maximum length of a formatted time, with the longest negative year.
+	 */
+	public static final int MAX_LENGTH = 39;
+
+	private static final ThreadLocal<Prefix> PREFIX = ThreadLocal.withInitial(Prefix::new);
+
+	private TimesFormatter() {}
+
+	/**
+	 * @param times the time to format
+	 * @return the formatted time
+	 */
+	@NotNull
+	public static String format(@NotNull Times times) {
+		var prefix = prefix(times);
+		return new String(prefix.chars, 0, prefix.length + 3);
+	}
+
+	/**
+	 * Appends the formatted time to the builder.
+	 *
+	 * @param times   the time to format
+	 * @param builder the builder to append
+	 * @return the given builder
+	 */
+	@NotNull
+	public static StringBuilder format(@NotNull Times times, @NotNull StringBuilder builder) {
+		var prefix = prefix(times);
+		return builder.append(prefix.chars, 0, prefix.length + 3);
+	}
+
+	/**
+	 * Appends the formatted time to the appendable.
+	 *
+	 * @param times      the time to format
+	 * @param appendable the appendable to append
+	 * @param <A>        the type of the appendable
+	 * @return the given appendable
+	 * @throws IOException if the appendable throws
+	 */
+	@NotNull
+	public static <A extends Appendable> A format(@NotNull Times times, @NotNull A appendable) throws IOException {
+		if (appendable instanceof StringBuilder builder) {
+			format(times, builder);
+			return appendable;
+		}
+		var    prefix = prefix(times);
+		char[] chars  = prefix.chars;
+		for (int i = 0, length = prefix.length + 3; i < length; i++) appendable.append(chars[i]);
+		return appendable;
+	}
+
+	/**
+	 * Writes the formatted time into the array as ASCII bytes.
+	 *
+	 * @param times  the time to format
+	 * @param dst    the array to write
+	 * @param offset the index of the first byte
+	 * @return the number of the written bytes
+	 * @throws IndexOutOfBoundsException if the formatted time does not fit in the array
+	 */
+	public static int format(@NotNull Times times, byte @NotNull [] dst, int offset) {
+		var    prefix = prefix(times);
+		char[] chars  = prefix.chars;
+		int    length = prefix.length + 3;
+		Objects.checkFromIndexSize(offset, length, dst.length);
+		for (int i = 0; i < length; i++) dst[offset + i] = (byte) chars[i];
+		return length;
+	}
+
+	/**
+	 * Returns the prefix of this thread, rendered for the given time, with the millisecond written after it.
+	 */
+	private static Prefix prefix(Times times) {
+		var prefix = PREFIX.get();
+		if (times instanceof PackedTimes packedTimes) {
+			long p = packedTimes.getPacked();
+			prefix.render(PackedTimes.year(p), PackedTimes.month(p), PackedTimes.day(p), PackedTimes.hour(p), PackedTimes.minute(p), PackedTimes.second(p), PackedTimes.millisecond(p));
+		}
+		else {
+			prefix.render(times.getYear().getValue(),
+			              times.getMonth().getValue(),
+			              times.getDay().getValue(),
+			              times.getHour().getValue(),
+			              times.getMinute().getValue(),
+			              times.getSecond().getValue(),
+			              times.getMillisecond().getValue());
+		}
+		return prefix;
+	}
+
+	/**
+	 * The rendered {@code y-M-d HH:mm:ss:} prefix of the last time formatted in a thread.
+	 */
+	private static final class Prefix {
+		private final char[]  chars = new char[MAX_LENGTH];
+		private       int     length;
+		private       boolean valid;
+		private       long    year, month, day, hour, minute, second;
+
+		void render(long year, long month, long day, long hour, long minute, long second, long millisecond) {
+			if (!valid || year != this.year || month != this.month || day != this.day || hour != this.hour || minute != this.minute || second != this.second) {
+				int i = writeLong(year, chars, 0);
+				chars[i++] = '-';
+				i          = writeLong(month, chars, i);
+				chars[i++] = '-';
+				i          = writeLong(day, chars, i);
+				chars[i++] = ' ';
+				i          = writeFixed(hour, 2, chars, i);
+				chars[i++] = ':';
+				i          = writeFixed(minute, 2, chars, i);
+				chars[i++] = ':';
+				i          = writeFixed(second, 2, chars, i);
+				chars[i++] = ':';
+				this.length = i;
+				this.year   = year;
+				this.month  = month;
+				this.day    = day;
+				this.hour   = hour;
+				this.minute = minute;
+				this.second = second;
+				this.valid  = true;
+			}
+			writeFixed(millisecond, 3, chars, length);
+		}
+	}
+
+	/**
+	 * Writes the decimal digits of the value, returns the index after the last digit.
+	 */
+	private static int writeLong(long value, char[] chars, int index) {
+		// Digits are taken from the negative value, so that Long.MIN_VALUE does not overflow
+		long negative = value < 0 ? value : -value;
+		if (value < 0) chars[index++] = '-';
+		int digits = 1;
+		for (long v = negative / 10; v != 0; v /= 10) digits++;
+		int end = index + digits;
+		for (int i = end - 1; i >= index; i--) {
+			chars[i] = (char) ('0' - negative % 10);
+			negative /= 10;
+		}
+		return end;
+	}
+
+	/**
+	 * Writes the non-negative value with exactly the given number of digits, returns the index after the last digit.
+	 */
+	private static int writeFixed(long value, int digits, char[] chars, int index) {
+		for (int i = index + digits - 1; i >= index; i--) {
+			chars[i] = (char) ('0' + value % 10);
+			value /= 10;
+		}
+		return index + digits;
+	}
+}
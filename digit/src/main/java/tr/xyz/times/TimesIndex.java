@@ -0,0 +1,243 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@code TimesIndex} is an immutable, read-optimized index of times for the floor, ceiling and range queries.
+ * <p>
+ * The times are kept as sorted packed {@code long} keys (see {@link PackedTimes}), each with an {@code int} payload,
+ * like the index of the record the time belongs to. The search runs over a copy of the keys in the Eytzinger
+ * (breadth-first) layout, so the first steps of every search touch the same few cache lines,
+ * and each query costs a logarithmic number of {@code long} comparisons.
+ * <br>
+ * {@snippet lang = java:
+ * var index = TimesIndex.of(series); // payloads are the indexes in the series
+ * int count = index.count(Times.of(2024, 5, 6), Times.of(2024, 5, 7));
+ * int first = index.ceiling(Times.of(2024, 5, 6));
+ * if (first >= 0) series.get(index.getPayload(first));
+ *}
+ * <p>
+ * The query methods return a rank, the position of the time in the sorted order,
+ * and the ranges are from inclusive and to exclusive.
+ */
+public final class TimesIndex {
+	private static final int MAX_SIZE = (1 << 30) - 1;
+
+	private final long[] keys;
+	private final int[]  payloads;
+	private final long[] eytzinger;
+	private final int[]  eytzingerRanks;
+
+	private TimesIndex(long[] keys, int[] payloads) {
+		this.keys           = keys;
+		this.payloads       = payloads;
+		this.eytzinger      = new long[keys.length + 1];
+		this.eytzingerRanks = new int[keys.length + 1];
+		layout(0, 1);
+	}
+
+	/**
+	 * Creates an index of the given series, the payload of each time is its index in the series.
+	 *
+	 * @param series the series to index
+	 * @return new {@code TimesIndex}
+	 */
+	@NotNull
+	public static TimesIndex of(@NotNull TimesSeries series) {
+		int[] payloads = new int[series.size()];
+		for (int i = 0; i < payloads.length; i++) payloads[i] = i;
+		return of(series.toPackedArray(), payloads);
+	}
+
+	/**
+	 * Creates an index of the given packed times and payloads.
+	 * The arrays are copied, and do not need to be sorted.
+	 * Times with the same value keep the order of their payloads in the arrays.
+	 *
+	 * @param packed   the packed times, created by {@link PackedTimes#pack(long, long, long, long, long, long, long)}
+	 * @param payloads the payload of each time
+	 * @return new {@code TimesIndex}
+	 * @throws IllegalArgumentException if the arrays have different lengths
+	 */
+	@NotNull
+	public static TimesIndex of(long @NotNull [] packed, int @NotNull [] payloads) {
+		if (packed.length != payloads.length) throw new IllegalArgumentException("Keys and payloads must have the same length : " + packed.length + " != " + payloads.length);
+		if (packed.length > MAX_SIZE) throw new IllegalArgumentException("Index cannot have more than " + MAX_SIZE + " times");
+		long[] keys   = packed.clone();
+		int[]  values = payloads.clone();
+		sort(keys, values, keys.clone(), values.clone(), 0, keys.length);
+		return new TimesIndex(keys, values);
+	}
+
+	/**
+	 * @return the number of times in the index
+	 */
+	public int size() {
+		return keys.length;
+	}
+
+	/**
+	 * @param rank the rank
+	 * @return the time at the given rank
+	 * @throws IndexOutOfBoundsException if the rank is out of the index
+	 */
+	@NotNull
+	public PackedTimes getTimes(int rank) {
+		return PackedTimes.ofPacked(getPacked(rank));
+	}
+
+	/**
+	 * @param rank the rank
+	 * @return the packed time at the given rank
+	 * @throws IndexOutOfBoundsException if the rank is out of the index
+	 */
+	public long getPacked(int rank) {
+		Objects.checkIndex(rank, keys.length);
+		return keys[rank];
+	}
+
+	/**
+	 * @param rank the rank
+	 * @return the payload of the time at the given rank
+	 * @throws IndexOutOfBoundsException if the rank is out of the index
+	 */
+	public int getPayload(int rank) {
+		Objects.checkIndex(rank, keys.length);
+		return payloads[rank];
+	}
+
+	/**
+	 * @param times the time
+	 * @return the rank of the latest time that is before or equal to the given time, or {@code -1} if there is none
+	 */
+	public int floor(@NotNull Times times) {
+		return upperBound(times) - 1;
+	}
+
+	/**
+	 * @param times the time
+	 * @return the rank of the earliest time that is after or equal to the given time, or {@code -1} if there is none
+	 */
+	public int ceiling(@NotNull Times times) {
+		int rank = lowerBound(times);
+		return rank == keys.length ? -1 : rank;
+	}
+
+	/**
+	 * @param from the start time (inclusive)
+	 * @param to   the end time (exclusive)
+	 * @return the number of the times in the range
+	 */
+	public int count(@NotNull Times from, @NotNull Times to) {
+		return Math.max(0, lowerBound(to) - lowerBound(from));
+	}
+
+	/**
+	 * @param from the start time (inclusive)
+	 * @param to   the end time (exclusive)
+	 * @return the payloads of the times in the range, in time order
+	 */
+	public int @NotNull [] range(@NotNull Times from, @NotNull Times to) {
+		int start = lowerBound(from);
+		int end   = lowerBound(to);
+		return start >= end ? new int[0] : Arrays.copyOfRange(payloads, start, end);
+	}
+
+	/**
+	 * @param times the time
+	 * @return the rank of the first time that is after or equal to the given time, or {@link #size()} if there is none
+	 */
+	public int lowerBound(@NotNull Times times) {
+		long year = times.getYear().getValue();
+		if (year > PackedTimes.MAX_YEAR) return keys.length;
+		if (year < PackedTimes.MIN_YEAR) return 0;
+		return lowerBound(PackedTimes.pack(times));
+	}
+
+	/**
+	 * @param times the time
+	 * @return the rank of the first time that is after the given time, or {@link #size()} if there is none
+	 */
+	public int upperBound(@NotNull Times times) {
+		long year = times.getYear().getValue();
+		if (year > PackedTimes.MAX_YEAR) return keys.length;
+		if (year < PackedTimes.MIN_YEAR) return 0;
+		return upperBound(PackedTimes.pack(times));
+	}
+
+	/**
+	 * @param packed the packed time
+	 * @return the rank of the first time that is after or equal to the given time, or {@link #size()} if there is none
+	 */
+	public int lowerBound(long packed) {
+		long[] tree = eytzinger;
+		int    n    = keys.length;
+		int    k    = 1;
+		while (k <= n) k = 2 * k + (tree[k] < packed ? 1 : 0);
+		// Drop the right turns taken after the last left turn, the remaining node is the answer
+		k >>>= Integer.numberOfTrailingZeros(~k) + 1;
+		return k == 0 ? n : eytzingerRanks[k];
+	}
+
+	/**
+	 * @param packed the packed time
+	 * @return the rank of the first time that is after the given time, or {@link #size()} if there is none
+	 */
+	public int upperBound(long packed) {
+		return packed == Long.MAX_VALUE ? keys.length : lowerBound(packed + 1);
+	}
+
+	/**
+	 * Fills the Eytzinger array with an in-order walk of the implicit tree, returns the next rank.
+	 */
+	private int layout(int rank, int k) {
+		if (k > keys.length) return rank;
+		rank              = layout(rank, 2 * k);
+		eytzinger[k]      = keys[rank];
+		eytzingerRanks[k] = rank;
+		return layout(rank + 1, 2 * k + 1);
+	}
+
+	/**
+	 * Stable merge sort of the keys with their payloads, from the source arrays into the destination arrays.
+	 */
+	private static void sort(long[] keys, int[] payloads, long[] srcKeys, int[] srcPayloads, int from, int to) {
+		int length = to - from;
+		if (length < 2) return;
+		if (length <= 32) {
+			for (int i = from + 1; i < to; i++) {
+				long key     = keys[i];
+				int  payload = payloads[i];
+				int  j       = i - 1;
+				for (; j >= from && keys[j] > key; j--) {
+					keys[j + 1]     = keys[j];
+					payloads[j + 1] = payloads[j];
+				}
+				keys[j + 1]     = key;
+				payloads[j + 1] = payload;
+			}
+			return;
+		}
+		int mid = (from + to) >>> 1;
+		sort(srcKeys, srcPayloads, keys, payloads, from, mid);
+		sort(srcKeys, srcPayloads, keys, payloads, mid, to);
+		if (srcKeys[mid - 1] <= srcKeys[mid]) {
+			System.arraycopy(srcKeys, from, keys, from, length);
+			System.arraycopy(srcPayloads, from, payloads, from, length);
+			return;
+		}
+		for (int i = from, p = from, q = mid; i < to; i++) {
+			if (q >= to || p < mid && srcKeys[p] <= srcKeys[q]) {
+				keys[i]     = srcKeys[p];
+				payloads[i] = srcPayloads[p++];
+			}
+			else {
+				keys[i]     = srcKeys[q];
+				payloads[i] = srcPayloads[q++];
+			}
+		}
+	}
+}
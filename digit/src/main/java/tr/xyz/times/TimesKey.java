@@ -0,0 +1,218 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * Order-preserving binary keys of {@link Times}, for sorted key-value stores.
+ * <p>
+ * A key is {@value #KEY_SIZE} bytes, both parts are big-endian:
+ * <pre>
+ * | year (8, sign bit flipped) | month (4 bits) | day (5) | hour (5) | minute (6) | second (6) | millisecond (10) |
+ * </pre>
+ * Flipping the sign bit makes the negative years sort before the positive years,
+ * so comparing two keys as unsigned bytes from the first byte gives the same order as {@link Times#compareTo(Object)},
+ * for any year in the range of {@link tr.xyz.digit.Digit#MIN} and {@link tr.xyz.digit.Digit#MAX}.
+ * The lower {@code 5} bytes are the same bits as the lower part of a {@link PackedTimes}.
+ * <br>
+ * {@snippet lang = java:
+ * byte[] key = TimesKey.encode(Times.of(2024, 5, 6));
+ * Times time = TimesKey.decode(key, 0);
+ *}
+ * <p>
+ * The primitive decoders read the fields directly from the bytes without creating any object.
+ * The keys are big-endian in the buffers too, whatever the {@link ByteBuffer#order() order} of the buffer is.
+ */
+public final class TimesKey {
+	/**
+	 * The size of a key in bytes.
+	 */
+	public static final int KEY_SIZE = 13;
+
+	private static final int  YEAR_SIZE  = 8;
+	private static final int  YEAR_SHIFT = 36;
+	private static final long LOW_MASK   = (1L << YEAR_SHIFT) - 1;
+
+	private TimesKey() {}
+
+	/**
+	 * @param times the time
+	 * @return new key of the given time
+	 */
+	public static byte @NotNull [] encode(@NotNull Times times) {
+		byte[] key = new byte[KEY_SIZE];
+		encode(times, key, 0);
+		return key;
+	}
+
+	/**
+	 * Writes the key of the given time into the array.
+	 *
+	 * @param times  the time
+	 * @param dst    the array to write
+	 * @param offset the index of the first byte
+	 * @throws IndexOutOfBoundsException if the key does not fit in the array
+	 */
+	public static void encode(@NotNull Times times, byte @NotNull [] dst, int offset) {
+		Objects.checkFromIndexSize(offset, KEY_SIZE, dst.length);
+		long year = times.getYear().getValue() ^ Long.MIN_VALUE;
+		long low  = low(times);
+		for (int i = YEAR_SIZE - 1; i >= 0; i--) {
+			dst[offset + i] = (byte) year;
+			year >>>= 8;
+		}
+		for (int i = KEY_SIZE - 1; i >= YEAR_SIZE; i--) {
+			dst[offset + i] = (byte) low;
+			low >>>= 8;
+		}
+	}
+
+	/**
+	 * Writes the key of the given time at the position of the buffer, and moves the position after the key.
+	 * The key is written big-endian, the order of the buffer is not used.
+	 *
+	 * @param times the time
+	 * @param dst   the buffer to write
+	 * @throws java.nio.BufferOverflowException if the buffer has less than {@value #KEY_SIZE} bytes remaining
+	 */
+	public static void encode(@NotNull Times times, @NotNull ByteBuffer dst) {
+		if (dst.remaining() < KEY_SIZE) throw new BufferOverflowException();
+		long low = low(times);
+		dst.putLong(bigEndian(dst, times.getYear().getValue() ^ Long.MIN_VALUE))
+		   .put((byte) (low >>> 32))
+		   .putInt(bigEndian(dst, (int) low));
+	}
+
+	/**
+	 * Reads the time of the key in the array.
+	 * The result is a {@link PackedTimes} if the year can be packed, otherwise a {@link TimeDigits}.
+	 *
+	 * @param src    the array
+	 * @param offset the index of the first byte of the key
+	 * @return new {@code Times}
+	 * @throws IndexOutOfBoundsException if the key is out of the array
+	 */
+	@NotNull
+	public static Times decode(byte @NotNull [] src, int offset) {
+		return of(decodeYear(src, offset), decodeLow(src, offset));
+	}
+
+	/**
+	 * Reads the time of the key at the given index of the buffer, the position and the order of the buffer are not used.
+	 * The result is a {@link PackedTimes} if the year can be packed, otherwise a {@link TimeDigits}.
+	 *
+	 * @param src   the buffer
+	 * @param index the index of the first byte of the key
+	 * @return new {@code Times}
+	 * @throws IndexOutOfBoundsException if the key is out of the buffer
+	 */
+	@NotNull
+	public static Times decode(@NotNull ByteBuffer src, int index) {
+		return of(decodeYear(src, index), decodeLow(src, index));
+	}
+
+	/**
+	 * @param src    the array
+	 * @param offset the index of the first byte of the key
+	 * @return the year of the key
+	 * @throws IndexOutOfBoundsException if the key is out of the array
+	 */
+	public static long decodeYear(byte @NotNull [] src, int offset) {
+		Objects.checkFromIndexSize(offset, KEY_SIZE, src.length);
+		long year = 0;
+		for (int i = 0; i < YEAR_SIZE; i++) year = year << 8 | (src[offset + i] & 0xFF);
+		return year ^ Long.MIN_VALUE;
+	}
+
+	/**
+	 * @param src   the buffer
+	 * @param index the index of the first byte of the key
+	 * @return the year of the key
+	 * @throws IndexOutOfBoundsException if the key is out of the buffer
+	 */
+	public static long decodeYear(@NotNull ByteBuffer src, int index) {
+		Objects.checkFromIndexSize(index, KEY_SIZE, src.limit());
+		return bigEndian(src, src.getLong(index)) ^ Long.MIN_VALUE;
+	}
+
+	/**
+	 * Reads the key in the array as a packed time, see {@link PackedTimes}.
+	 *
+	 * @param src    the array
+	 * @param offset the index of the first byte of the key
+	 * @return the packed time
+	 * @throws IndexOutOfBoundsException if the key is out of the array
+	 * @throws IllegalArgumentException  if the year is out of {@link PackedTimes#MIN_YEAR} and {@link PackedTimes#MAX_YEAR}
+	 */
+	public static long decodePacked(byte @NotNull [] src, int offset) {
+		return packed(decodeYear(src, offset), decodeLow(src, offset));
+	}
+
+	/**
+	 * Reads the key at the given index of the buffer as a packed time, see {@link PackedTimes}.
+	 *
+	 * @param src   the buffer
+	 * @param index the index of the first byte of the key
+	 * @return the packed time
+	 * @throws IndexOutOfBoundsException if the key is out of the buffer
+	 * @throws IllegalArgumentException  if the year is out of {@link PackedTimes#MIN_YEAR} and {@link PackedTimes#MAX_YEAR}
+	 */
+	public static long decodePacked(@NotNull ByteBuffer src, int index) {
+		return packed(decodeYear(src, index), decodeLow(src, index));
+	}
+
+	private static long decodeLow(byte[] src, int offset) {
+		long low = 0;
+		for (int i = YEAR_SIZE; i < KEY_SIZE; i++) low = low << 8 | (src[offset + i] & 0xFF);
+		return low;
+	}
+
+	private static long decodeLow(ByteBuffer src, int index) {
+		return (src.get(index + YEAR_SIZE) & 0xFFL) << 32 | (bigEndian(src, src.getInt(index + YEAR_SIZE + 1)) & 0xFFFF_FFFFL);
+	}
+
+	/**
+	 * Converts between the big-endian value of the key and the value in the order of the buffer, in both directions.
+	 */
+	private static long bigEndian(ByteBuffer buffer, long value) {
+		return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Long.reverseBytes(value);
+	}
+
+	private static int bigEndian(ByteBuffer buffer, int value) {
+		return buffer.order() == ByteOrder.BIG_ENDIAN ? value : Integer.reverseBytes(value);
+	}
+
+	/**
+	 * Returns the fields below the year in the packed layout.
+	 */
+	private static long low(Times times) {
+		if (times instanceof PackedTimes packedTimes) return packedTimes.getPacked() & LOW_MASK;
+		return PackedTimes.pack(0,
+		                        times.getMonth().getValue(),
+		                        times.getDay().getValue(),
+		                        times.getHour().getValue(),
+		                        times.getMinute().getValue(),
+		                        times.getSecond().getValue(),
+		                        times.getMillisecond().getValue());
+	}
+
+	private static long packed(long year, long low) {
+		if (!PackedTimes.isPackable(year)) throw new IllegalArgumentException("Year must be in " + PackedTimes.MIN_YEAR + " and " + PackedTimes.MAX_YEAR + " : " + year);
+		return year << YEAR_SHIFT | low;
+	}
+
+	private static Times of(long year, long low) {
+		if (PackedTimes.isPackable(year)) return PackedTimes.ofPacked(year << YEAR_SHIFT | low);
+		return new TimeDigits(year,
+		                      PackedTimes.month(low),
+		                      PackedTimes.day(low),
+		                      PackedTimes.hour(low),
+		                      PackedTimes.minute(low),
+		                      PackedTimes.second(low),
+		                      PackedTimes.millisecond(low));
+	}
+}
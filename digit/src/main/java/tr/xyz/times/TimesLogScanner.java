@@ -0,0 +1,166 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Extracts the timestamps at the start of the lines of a log file into a {@link TimesSeries}.
+ * <p>
+ * The file is split into chunks, each chunk is mapped with {@link FileChannel#map} and scanned in a {@link ForkJoinPool}.
+ * A chunk owns the lines that start in it, so a line crossing the chunk end is read by the chunk it starts in.
+ * The timestamp of each line is parsed from the mapped bytes by {@link TimesParser} into a packed {@code long},
+ * no {@code String} is created per line. Lines that do not start with a valid time are counted and skipped.
+ * <br>
+ * {@snippet lang = java:
+ * var result = TimesLogScanner.scan(Path.of("app.log"));
+ * TimesSeries times = result.series();
+ * System.out.printf("%.1f MB/s%n", result.bytesPerSecond() / 1e6);
+ *}
+ */
+public final class TimesLogScanner {
+	/**
+	 * The default size of a chunk in bytes.
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 8 << 20;
+	/**
+	 * The minimum size of a chunk in bytes, each chunk is a separate mapping.
+	 */
+	public static final int MIN_CHUNK_SIZE     = 4 << 10;
+
+	private TimesLogScanner() {}
+
+	/**
+	 * Scans the file with the common pool and the default chunk size.
+	 *
+	 * @param file the log file
+	 * @return the result of the scan
+	 * @throws IOException if an I/O error occurs
+	 */
+	@NotNull
+	public static Result scan(@NotNull Path file) throws IOException {
+		return scan(file, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Scans the file with the given pool and chunk size.
+	 *
+	 * @param file      the log file
+	 * @param pool      the pool to scan the chunks
+	 * @param chunkSize the size of a chunk in bytes, at least {@link #MIN_CHUNK_SIZE}
+	 * @return the result of the scan
+	 * @throws IOException              if an I/O error occurs
+	 * @throws IllegalArgumentException if the chunk size is less than {@link #MIN_CHUNK_SIZE}
+	 */
+	@NotNull
+	public static Result scan(@NotNull Path file, @NotNull ForkJoinPool pool, int chunkSize) throws IOException {
+		if (chunkSize < MIN_CHUNK_SIZE) throw new IllegalArgumentException("Chunk size cannot be less than " + MIN_CHUNK_SIZE + " : " + chunkSize);
+		long start = System.nanoTime();
+		try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size();
+			List<Callable<Chunk>> tasks = new ArrayList<>();
+			for (long from = 0; from < size; from += chunkSize) {
+				long chunkStart = from;
+				long chunkEnd   = Math.min(size, from + chunkSize);
+				tasks.add(() -> scan(channel, size, chunkStart, chunkEnd));
+			}
+
+			var  series  = new TimesSeries();
+			long lines   = 0;
+			long skipped = 0;
+			for (Future<Chunk> future : pool.invokeAll(tasks)) {
+				var chunk = join(future);
+				series.addAll(chunk.series);
+				lines += chunk.lines;
+				skipped += chunk.skipped;
+			}
+			return new Result(series, lines, skipped, size, System.nanoTime() - start);
+		}
+	}
+
+	private static Chunk join(Future<Chunk> future) throws IOException {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while scanning", e);
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof IOException io) throw io;
+			if (e.getCause() instanceof UncheckedIOException io) throw io.getCause();
+			if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+			throw new IOException(e.getCause());
+		}
+	}
+
+	/**
+	 * Scans the lines starting in {@code start} (inclusive) and {@code end} (exclusive).
+	 */
+	private static Chunk scan(FileChannel channel, long size, long start, long end) throws IOException {
+		// One byte before the chunk to find the first line start, and a timestamp after it for the last line
+		long regionStart = start == 0 ? 0 : start - 1;
+		long regionEnd   = Math.min(size, end + TimesFormatter.MAX_LENGTH);
+		MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionEnd - regionStart);
+		int limit    = buffer.limit();
+		int chunkEnd = (int) (end - regionStart);
+
+		var    series  = new TimesSeries();
+		byte[] scratch = new byte[TimesFormatter.MAX_LENGTH];
+		long   lines   = 0;
+		long   skipped = 0;
+
+		int position = start == 0 ? 0 : nextLine(buffer, 0, limit);
+		while (position < chunkEnd) {
+			int length = Math.min(scratch.length, limit - position);
+			buffer.get(position, scratch, 0, length);
+			long packed = TimesParser.tryParsePackedPrefix(scratch, 0, length);
+			if (packed == TimesParser.INVALID) skipped++;
+			else series.addPacked(packed);
+			lines++;
+			position = nextLine(buffer, position, limit);
+		}
+		return new Chunk(series, lines, skipped);
+	}
+
+	/**
+	 * Returns the index after the next {@code '\n'} from the given index, or the limit if there is none.
+	 */
+	private static int nextLine(MappedByteBuffer buffer, int index, int limit) {
+		for (int i = index; i < limit; i++) {
+			if (buffer.get(i) == '\n') return i + 1;
+		}
+		return limit;
+	}
+
+	private record Chunk(TimesSeries series, long lines, long skipped) {}
+
+	/**
+	 * The result of a scan.
+	 *
+	 * @param series  the timestamps in the order of the lines
+	 * @param lines   the number of the lines
+	 * @param skipped the number of the lines that do not start with a valid time
+	 * @param bytes   the size of the file
+	 * @param nanos   the duration of the scan in nanoseconds
+	 */
+	public record Result(@NotNull TimesSeries series, long lines, long skipped, long bytes, long nanos) {
+		/**
+		 * @return the throughput of the scan in bytes per second
+		 */
+		public double bytesPerSecond() {
+			return nanos == 0 ? 0 : bytes * 1e9 / nanos;
+		}
+	}
+}
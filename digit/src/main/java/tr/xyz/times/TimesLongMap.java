@@ -0,0 +1,292 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * {@code TimesLongMap} is a map from times to {@code long} values without boxing and without entry objects.
+ * <p>
+ * The keys are the packed {@code long}s of the times (see {@link PackedTimes}), so only the times with a
+ * {@link PackedTimes#isPackable(long) packable} year can be keys. The keys and the values are kept in two parallel arrays
+ * with open addressing and linear probing, and the table is grown to keep it at most half full.
+ * The packed value {@code 0} is not a valid time (its month is {@code 0}), it marks the empty slots.
+ * <br>
+ * {@snippet lang = java:
+ * var counts = new TimesLongMap();
+ * for (Times time : events) counts.addTo(time, 1);
+ * counts.forEach((packed, count) -> System.out.println(PackedTimes.ofPacked(packed) + " " + count));
+ *}
+ * <p>
+ * It is not thread-safe, and the iteration order is not specified.
+ */
+public final class TimesLongMap {
+	private static final int MIN_CAPACITY = 16;
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	private long[] keys;
+	private long[] values;
+	private int    size;
+	private int    shift;
+
+	/**
+	 * Creates an empty map.
+	 */
+	public TimesLongMap() {
+		this(MIN_CAPACITY / 2);
+	}
+
+	/**
+	 * Creates an empty map that can hold the given number of keys without growing.
+	 *
+	 * @param expectedSize the expected number of keys
+	 * @throws IllegalArgumentException if the expected size is negative or too large
+	 */
+	public TimesLongMap(int expectedSize) {
+		if (expectedSize < 0 || expectedSize > MAX_CAPACITY / 2) throw new IllegalArgumentException("Illegal expected size : " + expectedSize);
+		allocate(Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize * 2 - 1)) << 1));
+	}
+
+	private void allocate(int capacity) {
+		keys   = new long[capacity];
+		values = new long[capacity];
+		shift  = Long.numberOfLeadingZeros(capacity) + 1;
+	}
+
+	/**
+	 * @return the number of keys in the map
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return {@code true} if the map has no keys
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all keys, the capacity is kept.
+	 */
+	public void clear() {
+		Arrays.fill(keys, 0L);
+		Arrays.fill(values, 0L);
+		size = 0;
+	}
+
+	/**
+	 * Returns the value of the given time.
+	 *
+	 * @param key          the time
+	 * @param defaultValue the value to return if the time is not in the map
+	 * @return the value of the time, or the default value
+	 */
+	public long get(@NotNull Times key, long defaultValue) {
+		if (!isKey(key)) return defaultValue;
+		return getPacked(PackedTimes.pack(key), defaultValue);
+	}
+
+	/**
+	 * Returns the value of the given packed time.
+	 *
+	 * @param packed       the packed time
+	 * @param defaultValue the value to return if the time is not in the map
+	 * @return the value of the time, or the default value
+	 */
+	public long getPacked(long packed, long defaultValue) {
+		int slot = find(packed);
+		return slot < 0 ? defaultValue : values[slot];
+	}
+
+	/**
+	 * @param key the time
+	 * @return {@code true} if the time is in the map
+	 */
+	public boolean containsKey(@NotNull Times key) {
+		return isKey(key) && find(PackedTimes.pack(key)) >= 0;
+	}
+
+	/**
+	 * @param packed the packed time
+	 * @return {@code true} if the packed time is in the map
+	 */
+	public boolean containsPacked(long packed) {
+		return find(packed) >= 0;
+	}
+
+	/**
+	 * Sets the value of the given time.
+	 *
+	 * @param key   the time
+	 * @param value the value
+	 * @throws IllegalArgumentException if the year of the time is not packable
+	 */
+	public void put(@NotNull Times key, long value) {
+		putPacked(PackedTimes.pack(key), value);
+	}
+
+	/**
+	 * Sets the value of the given packed time.
+	 *
+	 * @param packed the packed time
+	 * @param value  the value
+	 * @throws IllegalArgumentException if the packed value is {@code 0}
+	 */
+	public void putPacked(long packed, long value) {
+		// The slot is found first, the insert may grow the arrays
+		int slot = insert(packed);
+		values[slot] = value;
+	}
+
+	/**
+	 * Adds the given delta to the value of the given time, a missing time starts from {@code 0}.
+	 *
+	 * @param key   the time
+	 * @param delta the value to add
+	 * @return the new value of the time
+	 * @throws IllegalArgumentException if the year of the time is not packable
+	 */
+	public long addTo(@NotNull Times key, long delta) {
+		return addToPacked(PackedTimes.pack(key), delta);
+	}
+
+	/**
+	 * Adds the given delta to the value of the given packed time, a missing time starts from {@code 0}.
+	 *
+	 * @param packed the packed time
+	 * @param delta  the value to add
+	 * @return the new value of the time
+	 * @throws IllegalArgumentException if the packed value is {@code 0}
+	 */
+	public long addToPacked(long packed, long delta) {
+		int slot = insert(packed);
+		return values[slot] += delta;
+	}
+
+	/**
+	 * Removes the given time.
+	 *
+	 * @param key the time
+	 * @return {@code true} if the time was in the map
+	 */
+	public boolean remove(@NotNull Times key) {
+		return isKey(key) && removePacked(PackedTimes.pack(key));
+	}
+
+	/**
+	 * Removes the given packed time.
+	 *
+	 * @param packed the packed time
+	 * @return {@code true} if the time was in the map
+	 */
+	public boolean removePacked(long packed) {
+		int slot = find(packed);
+		if (slot < 0) return false;
+		int mask = keys.length - 1;
+		// Backward shift deletion, the following keys of the probe sequence are moved back, no tombstones are left
+		for (int next = (slot + 1) & mask; keys[next] != 0L; next = (next + 1) & mask) {
+			int home = index(keys[next]);
+			if (((next - home) & mask) >= ((next - slot) & mask)) {
+				keys[slot]   = keys[next];
+				values[slot] = values[next];
+				slot         = next;
+			}
+		}
+		keys[slot]   = 0L;
+		values[slot] = 0L;
+		size--;
+		return true;
+	}
+
+	/**
+	 * Calls the given consumer for each key and value.
+	 *
+	 * @param consumer the consumer of the packed times and their values
+	 */
+	public void forEach(@NotNull PackedLongConsumer consumer) {
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != 0L) consumer.accept(keys[i], values[i]);
+		}
+	}
+
+	private static boolean isKey(Times key) {
+		return key instanceof PackedTimes || PackedTimes.isPackable(key.getYear().getValue());
+	}
+
+	private int index(long packed) {
+		// Fibonacci hashing, the high bits of the product depend on all bits of the key
+		return (int) ((packed * 0x9E3779B97F4A7C15L) >>> shift);
+	}
+
+	/**
+	 * Returns the slot of the given key, or {@code -1} if it is not in the map.
+	 */
+	private int find(long packed) {
+		if (packed == 0L) return -1;
+		int mask = keys.length - 1;
+		for (int i = index(packed); ; i = (i + 1) & mask) {
+			long key = keys[i];
+			if (key == packed) return i;
+			if (key == 0L) return -1;
+		}
+	}
+
+	/**
+	 * Returns the slot of the given key, the key is added with the value {@code 0} if it is not in the map.
+	 */
+	private int insert(long packed) {
+		if (packed == 0L) throw new IllegalArgumentException("0 is not a packed time");
+		int mask = keys.length - 1;
+		int i    = index(packed);
+		for (long key; (key = keys[i]) != 0L; i = (i + 1) & mask) {
+			if (key == packed) return i;
+		}
+		if (size + 1 > keys.length / 2) {
+			grow();
+			return insert(packed);
+		}
+		keys[i] = packed;
+		size++;
+		return i;
+	}
+
+	private void grow() {
+		if (keys.length == MAX_CAPACITY) throw new IllegalStateException("Map cannot have more than " + MAX_CAPACITY / 2 + " keys");
+		long[] oldKeys   = keys;
+		long[] oldValues = values;
+		allocate(keys.length << 1);
+		int mask = keys.length - 1;
+		for (int j = 0; j < oldKeys.length; j++) {
+			long key = oldKeys[j];
+			if (key == 0L) continue;
+			int i = index(key);
+			while (keys[i] != 0L) i = (i + 1) & mask;
+			keys[i]   = key;
+			values[i] = oldValues[j];
+		}
+	}
+
+	@Override
+	public String toString() {
+		var builder = new StringBuilder("{");
+		forEach((packed, value) -> {
+			if (builder.length() > 1) builder.append(", ");
+			TimesFormatter.format(PackedTimes.ofPacked(packed), builder).append('=').append(value);
+		});
+		return builder.append('}').toString();
+	}
+
+	/**
+	 * Consumer of a packed time and its {@code long} value.
+	 */
+	@FunctionalInterface
+	public interface PackedLongConsumer {
+		/**
+		 * @param packed the packed time
+		 * @param value  the value of the time
+		 */
+		void accept(long packed, long value);
+	}
+}
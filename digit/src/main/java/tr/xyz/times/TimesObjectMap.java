@@ -0,0 +1,311 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.LongFunction;
+
+/**
+ * {@code TimesObjectMap} is a map from times to objects without boxing the keys and without entry objects.
+ * <p>
+ * Like {@link TimesLongMap}, the keys are the packed {@code long}s of the times with a
+ * {@link PackedTimes#isPackable(long) packable} year, kept with the values in two parallel arrays
+ * with open addressing and linear probing. The table is grown to keep it at most half full.
+ * The values cannot be {@code null}, a {@code null} result means the time is not in the map.
+ * <br>
+ * {@snippet lang = java:
+ * var byTime = new TimesObjectMap<List<Event>>();
+ * byTime.computeIfAbsent(event.time(), packed -> new ArrayList<>()).add(event);
+ *}
+ * <p>
+ * It is not thread-safe, and the iteration order is not specified.
+ *
+ * @param <V> the type of the values
+ */
+public final class TimesObjectMap<V> {
+	private static final int MIN_CAPACITY = 16;
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	private long[]   keys;
+	private Object[] values;
+	private int      size;
+	private int      shift;
+
+	/**
+	 * Creates an empty map.
+	 */
+	public TimesObjectMap() {
+		this(MIN_CAPACITY / 2);
+	}
+
+	/**
+	 * Creates an empty map that can hold the given number of keys without growing.
+	 *
+	 * @param expectedSize the expected number of keys
+	 * @throws IllegalArgumentException if the expected size is negative or too large
+	 */
+	public TimesObjectMap(int expectedSize) {
+		if (expectedSize < 0 || expectedSize > MAX_CAPACITY / 2) throw new IllegalArgumentException("Illegal expected size : " + expectedSize);
+		allocate(Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize * 2 - 1)) << 1));
+	}
+
+	private void allocate(int capacity) {
+		keys   = new long[capacity];
+		values = new Object[capacity];
+		shift  = Long.numberOfLeadingZeros(capacity) + 1;
+	}
+
+	/**
+	 * @return the number of keys in the map
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return {@code true} if the map has no keys
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all keys, the capacity is kept.
+	 */
+	public void clear() {
+		Arrays.fill(keys, 0L);
+		Arrays.fill(values, null);
+		size = 0;
+	}
+
+	/**
+	 * @param key the time
+	 * @return the value of the time, or {@code null} if it is not in the map
+	 */
+	@Nullable
+	public V get(@NotNull Times key) {
+		return isKey(key) ? getPacked(PackedTimes.pack(key)) : null;
+	}
+
+	/**
+	 * @param packed the packed time
+	 * @return the value of the packed time, or {@code null} if it is not in the map
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public V getPacked(long packed) {
+		int slot = find(packed);
+		return slot < 0 ? null : (V) values[slot];
+	}
+
+	/**
+	 * @param key the time
+	 * @return {@code true} if the time is in the map
+	 */
+	public boolean containsKey(@NotNull Times key) {
+		return isKey(key) && find(PackedTimes.pack(key)) >= 0;
+	}
+
+	/**
+	 * @param packed the packed time
+	 * @return {@code true} if the packed time is in the map
+	 */
+	public boolean containsPacked(long packed) {
+		return find(packed) >= 0;
+	}
+
+	/**
+	 * Sets the value of the given time.
+	 *
+	 * @param key   the time
+	 * @param value the value
+	 * @return the previous value of the time, or {@code null} if it was not in the map
+	 * @throws IllegalArgumentException if the year of the time is not packable
+	 */
+	@Nullable
+	public V put(@NotNull Times key, @NotNull V value) {
+		return putPacked(PackedTimes.pack(key), value);
+	}
+
+	/**
+	 * Sets the value of the given packed time.
+	 *
+	 * @param packed the packed time
+	 * @param value  the value
+	 * @return the previous value of the time, or {@code null} if it was not in the map
+	 * @throws IllegalArgumentException if the packed value is {@code 0}
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public V putPacked(long packed, @NotNull V value) {
+		if (value == null) throw new NullPointerException("Value cannot be null");
+		int slot     = insert(packed);
+		var previous = (V) values[slot];
+		values[slot] = value;
+		return previous;
+	}
+
+	/**
+	 * Returns the value of the given time, the value is created by the given function if the time is not in the map.
+	 *
+	 * @param key      the time
+	 * @param function the function that creates the value from the packed time
+	 * @return the value of the time
+	 * @throws IllegalArgumentException if the year of the time is not packable
+	 */
+	@NotNull
+	public V computeIfAbsent(@NotNull Times key, @NotNull LongFunction<? extends V> function) {
+		return computeIfAbsentPacked(PackedTimes.pack(key), function);
+	}
+
+	/**
+	 * Returns the value of the given packed time, the value is created by the given function if the time is not in the map.
+	 *
+	 * @param packed   the packed time
+	 * @param function the function that creates the value from the packed time
+	 * @return the value of the time
+	 * @throws IllegalArgumentException if the packed value is {@code 0}
+	 */
+	@NotNull
+	@SuppressWarnings("unchecked")
+	public V computeIfAbsentPacked(long packed, @NotNull LongFunction<? extends V> function) {
+		int slot = find(packed);
+		if (slot >= 0) return (V) values[slot];
+		V value = function.apply(packed);
+		putPacked(packed, value);
+		return value;
+	}
+
+	/**
+	 * Removes the given time.
+	 *
+	 * @param key the time
+	 * @return the removed value, or {@code null} if the time was not in the map
+	 */
+	@Nullable
+	public V remove(@NotNull Times key) {
+		return isKey(key) ? removePacked(PackedTimes.pack(key)) : null;
+	}
+
+	/**
+	 * Removes the given packed time.
+	 *
+	 * @param packed the packed time
+	 * @return the removed value, or {@code null} if the time was not in the map
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public V removePacked(long packed) {
+		int slot = find(packed);
+		if (slot < 0) return null;
+		var removed = (V) values[slot];
+		int mask    = keys.length - 1;
+		// Backward shift deletion, the following keys of the probe sequence are moved back, no tombstones are left
+		for (int next = (slot + 1) & mask; keys[next] != 0L; next = (next + 1) & mask) {
+			int home = index(keys[next]);
+			if (((next - home) & mask) >= ((next - slot) & mask)) {
+				keys[slot]   = keys[next];
+				values[slot] = values[next];
+				slot         = next;
+			}
+		}
+		keys[slot]   = 0L;
+		values[slot] = null;
+		size--;
+		return removed;
+	}
+
+	/**
+	 * Calls the given consumer for each key and value.
+	 *
+	 * @param consumer the consumer of the packed times and their values
+	 */
+	@SuppressWarnings("unchecked")
+	public void forEach(@NotNull PackedObjectConsumer<? super V> consumer) {
+		for (int i = 0; i < keys.length; i++) {
+			if (keys[i] != 0L) consumer.accept(keys[i], (V) values[i]);
+		}
+	}
+
+	private static boolean isKey(Times key) {
+		return key instanceof PackedTimes || PackedTimes.isPackable(key.getYear().getValue());
+	}
+
+	private int index(long packed) {
+		// Fibonacci hashing, the high bits of the product depend on all bits of the key
+		return (int) ((packed * 0x9E3779B97F4A7C15L) >>> shift);
+	}
+
+	/**
+	 * Returns the slot of the given key, or {@code -1} if it is not in the map.
+	 */
+	private int find(long packed) {
+		if (packed == 0L) return -1;
+		int mask = keys.length - 1;
+		for (int i = index(packed); ; i = (i + 1) & mask) {
+			long key = keys[i];
+			if (key == packed) return i;
+			if (key == 0L) return -1;
+		}
+	}
+
+	/**
+	 * Returns the slot of the given key, the key is added without a value if it is not in the map.
+	 */
+	private int insert(long packed) {
+		if (packed == 0L) throw new IllegalArgumentException("0 is not a packed time");
+		int mask = keys.length - 1;
+		int i    = index(packed);
+		for (long key; (key = keys[i]) != 0L; i = (i + 1) & mask) {
+			if (key == packed) return i;
+		}
+		if (size + 1 > keys.length / 2) {
+			grow();
+			return insert(packed);
+		}
+		keys[i] = packed;
+		size++;
+		return i;
+	}
+
+	private void grow() {
+		if (keys.length == MAX_CAPACITY) throw new IllegalStateException("Map cannot have more than " + MAX_CAPACITY / 2 + " keys");
+		long[]   oldKeys   = keys;
+		Object[] oldValues = values;
+		allocate(keys.length << 1);
+		int mask = keys.length - 1;
+		for (int j = 0; j < oldKeys.length; j++) {
+			long key = oldKeys[j];
+			if (key == 0L) continue;
+			int i = index(key);
+			while (keys[i] != 0L) i = (i + 1) & mask;
+			keys[i]   = key;
+			values[i] = oldValues[j];
+		}
+	}
+
+	@Override
+	public String toString() {
+		var builder = new StringBuilder("{");
+		forEach((packed, value) -> {
+			if (builder.length() > 1) builder.append(", ");
+			TimesFormatter.format(PackedTimes.ofPacked(packed), builder).append('=').append(value);
+		});
+		return builder.append('}').toString();
+	}
+
+	/**
+	 * Consumer of a packed time and its value.
+	 *
+	 * @param <V> the type of the value
+	 */
+	@FunctionalInterface
+	public interface PackedObjectConsumer<V> {
+		/**
+		 * @param packed the packed time
+		 * @param value  the value of the time
+		 */
+		void accept(long packed, V value);
+	}
+}
@@ -0,0 +1,309 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+import tr.xyz.digit.Digit;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+
+/**
+ * Parses the {@code y-M-d HH:mm:ss:SSS} layout written by {@link TimesFormatter} and {@link TimeDigits#toString()},
+ * like {@code 2024-5-6 14:50:00:000} or {@code -5-12-30 23:59:59:999}.
+ * <p>
+ * The text is scanned once from left to right, without regular expressions and without creating substrings.
+ * The values are checked against the digit calendar, so {@code 2024-2-30} is a valid date.
+ * Errors are reported with a {@link DateTimeParseException}, whose {@link DateTimeParseException#getErrorIndex() error index}
+ * is the position of the invalid character or field, from the start of the text.
+ * <br>
+ * {@snippet lang = java:
+ * Times time   = TimesParser.parse("2024-5-6 14:50:00:000");
+ * long  packed = TimesParser.parsePacked(bytes, 0, length); // without creating objects
+ *}
+ */
+public final class TimesParser {
+	/**
+	 * Returned by {@link #tryParsePackedPrefix(byte[], int, int)} if the bytes do not start with a valid time.
+	 * It is not a valid packed time, since its month is {@code 0}.
+	 */
+	static final long INVALID = Long.MIN_VALUE;
+
+	private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[TimesFormatter.MAX_LENGTH]);
+
+	/**
+	 * The length of the fixed-width {@code HH:mm:ss:SSS} part.
+	 */
+	private static final int TIME_LENGTH = 12;
+
+	// The scanning methods return a negative code instead of throwing, the code holds the reason and the index
+	private static final String[] REASONS = {
+			"Expected a year digit",
+			"Expected '-' after the year",
+			"Year is out of range",
+			"Expected a month digit",
+			"Month must be in 1 and 12",
+			"Expected '-' after the month",
+			"Expected a day digit",
+			"Day must be in 1 and 30",
+			"Expected ' ' after the day",
+			"Expected a digit",
+			"Expected ':'",
+			"Text ended before the millisecond",
+			"Hour must be in 0 and 23",
+			"Minute must be in 0 and 59",
+			"Second must be in 0 and 59",
+			"Unexpected text after the millisecond",
+			"Year must be in " + PackedTimes.MIN_YEAR + " and " + PackedTimes.MAX_YEAR,
+			"Text is too long"
+	};
+
+	private static final int YEAR_DIGIT = 0, YEAR_END = 1, YEAR_RANGE = 2, MONTH_DIGIT = 3, MONTH_RANGE = 4, MONTH_END = 5,
+			DAY_DIGIT = 6, DAY_RANGE = 7, DAY_END = 8, DIGIT = 9, COLON = 10, TRUNCATED = 11,
+			HOUR_RANGE = 12, MINUTE_RANGE = 13, SECOND_RANGE = 14, TRAILING = 15, NOT_PACKABLE = 16, TOO_LONG = 17;
+
+	private static final int REASON_BITS = 5;
+
+	private TimesParser() {}
+
+	/**
+	 * @param text the text to parse
+	 * @return new {@code Times}
+	 * @throws DateTimeParseException if the text is not a valid time
+	 */
+	@NotNull
+	public static Times parse(@NotNull CharSequence text) {
+		byte[] src     = ascii(text);
+		int    end     = text.length();
+		int    yearEnd = yearEnd(src, 0, end, text);
+		return of(year(src, 0, yearEnd, end, text), low(src, 0, yearEnd, end, true, text));
+	}
+
+	/**
+	 * @param src    the ASCII bytes to parse
+	 * @param offset the index of the first byte
+	 * @param length the number of bytes
+	 * @return new {@code Times}
+	 * @throws DateTimeParseException    if the bytes are not a valid time
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 */
+	@NotNull
+	public static Times parse(byte @NotNull [] src, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, src.length);
+		int end     = offset + length;
+		int yearEnd = yearEnd(src, offset, end, null);
+		return of(year(src, offset, yearEnd, end, null), low(src, offset, yearEnd, end, true, null));
+	}
+
+	/**
+	 * Parses the text into a packed time, see {@link PackedTimes}.
+	 *
+	 * @param text the text to parse
+	 * @return the packed time
+	 * @throws DateTimeParseException if the text is not a valid time, or the year cannot be packed
+	 */
+	public static long parsePacked(@NotNull CharSequence text) {
+		byte[] src     = ascii(text);
+		int    end     = text.length();
+		int    yearEnd = yearEnd(src, 0, end, text);
+		return packed(year(src, 0, yearEnd, end, text), low(src, 0, yearEnd, end, true, text), src, 0, end, text);
+	}
+
+	/**
+	 * Parses the bytes into a packed time, see {@link PackedTimes}.
+	 *
+	 * @param src    the ASCII bytes to parse
+	 * @param offset the index of the first byte
+	 * @param length the number of bytes
+	 * @return the packed time
+	 * @throws DateTimeParseException    if the bytes are not a valid time, or the year cannot be packed
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 */
+	public static long parsePacked(byte @NotNull [] src, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, src.length);
+		int end     = offset + length;
+		int yearEnd = yearEnd(src, offset, end, null);
+		return packed(year(src, offset, yearEnd, end, null), low(src, offset, yearEnd, end, true, null), src, offset, end, null);
+	}
+
+	/**
+	 * Parses the time at the start of the bytes into a packed time, see {@link PackedTimes}.
+	 * Unlike {@link #parsePacked(byte[], int, int)}, the bytes after the millisecond are ignored,
+	 * so it can read the timestamp at the start of a log line.
+	 *
+	 * @param src    the ASCII bytes to parse
+	 * @param offset the index of the first byte
+	 * @param length the number of bytes, may be more than the time
+	 * @return the packed time
+	 * @throws DateTimeParseException    if the bytes do not start with a valid time, or the year cannot be packed
+	 * @throws IndexOutOfBoundsException if the range is out of the array
+	 */
+	public static long parsePackedPrefix(byte @NotNull [] src, int offset, int length) {
+		Objects.checkFromIndexSize(offset, length, src.length);
+		int end     = offset + length;
+		int yearEnd = yearEnd(src, offset, end, null);
+		return packed(year(src, offset, yearEnd, end, null), low(src, offset, yearEnd, end, false, null), src, offset, end, null);
+	}
+
+	/**
+	 * Like {@link #parsePackedPrefix(byte[], int, int)}, but returns {@link #INVALID} instead of throwing,
+	 * for the scanners where the invalid lines are common.
+	 */
+	static long tryParsePackedPrefix(byte[] src, int offset, int length) {
+		int  end     = offset + length;
+		long yearEnd = yearEnd(src, offset, end);
+		if (yearEnd < 0) return INVALID;
+		long year = parseYear(src, offset, (int) yearEnd);
+		if (!PackedTimes.isPackable(year)) return INVALID;
+		long low = parseLow(src, (int) yearEnd, end, false);
+		if (low < 0) return INVALID;
+		return PackedTimes.pack(year, PackedTimes.month(low), PackedTimes.day(low), PackedTimes.hour(low), PackedTimes.minute(low), PackedTimes.second(low), PackedTimes.millisecond(low));
+	}
+
+	/**
+	 * Copies the text into the scratch array of this thread, the characters that are not ASCII become invalid bytes.
+	 */
+	private static byte[] ascii(CharSequence text) {
+		int length = text.length();
+		if (length > TimesFormatter.MAX_LENGTH) throw error(fail(TOO_LONG, TimesFormatter.MAX_LENGTH), text, null, 0, 0);
+		byte[] scratch = SCRATCH.get();
+		for (int i = 0; i < length; i++) {
+			char c = text.charAt(i);
+			scratch[i] = c < 0x80 ? (byte) c : (byte) 0xFF;
+		}
+		return scratch;
+	}
+
+	/**
+	 * Scans the year once, its end is given to {@link #year} and {@link #low}.
+	 */
+	private static int yearEnd(byte[] src, int offset, int end, CharSequence text) {
+		long yearEnd = yearEnd(src, offset, end);
+		if (yearEnd < 0) throw error(yearEnd, text, src, offset, end);
+		return (int) yearEnd;
+	}
+
+	private static long year(byte[] src, int offset, int yearEnd, int end, CharSequence text) {
+		long year = parseYear(src, offset, yearEnd);
+		if (year < Digit.MIN || year > Digit.MAX) throw error(fail(YEAR_RANGE, offset), text, src, offset, end);
+		return year;
+	}
+
+	private static long low(byte[] src, int offset, int yearEnd, int end, boolean whole, CharSequence text) {
+		long low = parseLow(src, yearEnd, end, whole);
+		if (low < 0) throw error(low, text, src, offset, end);
+		return low;
+	}
+
+	/**
+	 * Returns the index of the {@code '-'} after the year.
+	 */
+	private static long yearEnd(byte[] src, int offset, int end) {
+		int i = offset;
+		if (i < end && src[i] == '-') i++;
+		int digits = i;
+		while (i < end && isDigit(src[i])) i++;
+		if (i == digits) return fail(YEAR_DIGIT, i);
+		if (i >= end || src[i] != '-') return fail(YEAR_END, i);
+		return i;
+	}
+
+	/**
+	 * Returns the year, or {@link Long#MIN_VALUE} if it does not fit in a {@code long}.
+	 */
+	private static long parseYear(byte[] src, int offset, int yearEnd) {
+		boolean negative = src[offset] == '-';
+		long    year     = 0;
+		// Accumulated as a negative value, so that Long.MIN_VALUE can be reached without overflow
+		for (int i = negative ? offset + 1 : offset; i < yearEnd; i++) {
+			if (year < (Long.MIN_VALUE + 9) / 10) return Long.MIN_VALUE;
+			year = year * 10 - (src[i] - '0');
+		}
+		return negative ? year : -year;
+	}
+
+	/**
+	 * Parses the fields after the year, returns them in the lower bits of the packed layout.
+	 */
+	private static long parseLow(byte[] src, int yearEnd, int end, boolean whole) {
+		int i = yearEnd + 1;
+
+		int  start = i;
+		long month = 0;
+		while (i < end && i - start < 2 && isDigit(src[i])) month = month * 10 + (src[i++] - '0');
+		if (i == start) return fail(MONTH_DIGIT, i);
+		if (month < 1 || month > 12) return fail(MONTH_RANGE, start);
+		if (i >= end || src[i] != '-') return fail(MONTH_END, i);
+		i++;
+
+		start = i;
+		long day = 0;
+		while (i < end && i - start < 2 && isDigit(src[i])) day = day * 10 + (src[i++] - '0');
+		if (i == start) return fail(DAY_DIGIT, i);
+		if (day < 1 || day > 30) return fail(DAY_RANGE, start);
+		if (i >= end || src[i] != ' ') return fail(DAY_END, i);
+		i++;
+
+		int timeEnd = Math.min(end, i + TIME_LENGTH);
+		for (int j = i; j < timeEnd; j++) {
+			boolean colon = isColon(j - i);
+			if (colon ? src[j] != ':' : !isDigit(src[j])) return fail(colon ? COLON : DIGIT, j);
+		}
+		if (timeEnd - i < TIME_LENGTH) return fail(TRUNCATED, end);
+		long hour        = fixed(src, i, 2);
+		long minute      = fixed(src, i + 3, 2);
+		long second      = fixed(src, i + 6, 2);
+		long millisecond = fixed(src, i + 9, 3);
+		if (hour > 23) return fail(HOUR_RANGE, i);
+		if (minute > 59) return fail(MINUTE_RANGE, i + 3);
+		if (second > 59) return fail(SECOND_RANGE, i + 6);
+		if (whole && timeEnd != end) return fail(TRAILING, timeEnd);
+
+		return PackedTimes.pack(0, month, day, hour, minute, second, millisecond);
+	}
+
+	/**
+	 * Returns {@code true} if the given position of {@code HH:mm:ss:SSS} is a {@code ':'}.
+	 */
+	private static boolean isColon(int position) {
+		return position < 9 && position % 3 == 2;
+	}
+
+	private static long fixed(byte[] src, int index, int digits) {
+		long value = 0;
+		for (int i = index; i < index + digits; i++) value = value * 10 + (src[i] - '0');
+		return value;
+	}
+
+	private static boolean isDigit(byte b) {
+		return b >= '0' && b <= '9';
+	}
+
+	private static Times of(long year, long low) {
+		return new TimeDigits(year, PackedTimes.month(low), PackedTimes.day(low), PackedTimes.hour(low), PackedTimes.minute(low), PackedTimes.second(low), PackedTimes.millisecond(low));
+	}
+
+	private static long packed(long year, long low, byte[] src, int offset, int end, CharSequence text) {
+		if (!PackedTimes.isPackable(year)) throw error(fail(NOT_PACKABLE, offset), text, src, offset, end);
+		return PackedTimes.pack(year, PackedTimes.month(low), PackedTimes.day(low), PackedTimes.hour(low), PackedTimes.minute(low), PackedTimes.second(low), PackedTimes.millisecond(low));
+	}
+
+	private static long fail(int reason, int index) {
+		return -(((long) index << REASON_BITS) | reason) - 1;
+	}
+
+	/**
+	 * Creates the exception of the failure code, the text of the bytes is only created here.
+	 * The text is cut at the end of the parsed range, so no bytes after the range are shown.
+	 */
+	private static DateTimeParseException error(long code, CharSequence text, byte[] src, int offset, int end) {
+		code = -(code + 1);
+		int index      = (int) (code >>> REASON_BITS);
+		int errorIndex = index - offset;
+		if (text == null) {
+			int textEnd = Math.min(end, Math.max(index, offset + TimesFormatter.MAX_LENGTH));
+			text = new String(src, offset, textEnd - offset, StandardCharsets.ISO_8859_1);
+		}
+		String reason = REASONS[(int) (code & ((1 << REASON_BITS) - 1))];
+		return new DateTimeParseException(reason + " at index " + errorIndex + " : " + text, text, errorIndex);
+	}
+}
@@ -0,0 +1,309 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+/**
+ * {@code TimesSeries} is a growable column of times, each stored as a single packed {@code long}
+ * in the layout of {@link PackedTimes}.
+ * <p>
+ * A time takes {@code 8} bytes in the column instead of the eight objects of a {@link TimeDigits},
+ * and the packed values order like the times, so sorting and finding the minimum or the maximum
+ * work on the primitive values directly.
+ * <br>
+ * {@snippet lang = java:
+ * var series = new TimesSeries();
+ * series.add(Times.of(2024, 5, 6, 14, 50));
+ * series.add(Times.of(2023, 1, 1));
+ * series.sort();
+ * var first = series.get(0); // 2023-1-1 00:00:00:000
+ *}
+ * <p>
+ * The years must be in the range of {@link PackedTimes#MIN_YEAR} and {@link PackedTimes#MAX_YEAR}.
+ * The series is not thread-safe.
+ */
+public final class TimesSeries {
+	private static final int    DEFAULT_CAPACITY = 16;
+	private static final long[] EMPTY            = {};
+
+	private long[] packed;
+	private int    size;
+
+	/**
+	 * Creates an empty series.
+	 */
+	public TimesSeries() {
+		this.packed = EMPTY;
+	}
+
+	/**
+	 * Creates an empty series with the given initial capacity.
+	 *
+	 * @param capacity the initial capacity
+	 * @throws IllegalArgumentException if the capacity is negative
+	 */
+	public TimesSeries(int capacity) {
+		if (capacity < 0) throw new IllegalArgumentException("Capacity cannot be negative : " + capacity);
+		this.packed = capacity == 0 ? EMPTY : new long[capacity];
+	}
+
+	/**
+	 * Creates a series of the given packed values.
+	 * The array is copied.
+	 *
+	 * @param packed the packed values, created by {@link PackedTimes#pack(long, long, long, long, long, long, long)}
+	 * @return new {@code TimesSeries}
+	 */
+	@NotNull
+	public static TimesSeries ofPacked(long @NotNull ... packed) {
+		return wrap(packed.clone());
+	}
+
+	/**
+	 * Creates a series backed by the given array without copying, for the bulk operations of this package.
+	 */
+	@NotNull
+	static TimesSeries wrap(long @NotNull [] packed) {
+		var series = new TimesSeries();
+		series.packed = packed;
+		series.size   = packed.length;
+		return series;
+	}
+
+	/**
+	 * Appends the given time.
+	 *
+	 * @param times the time to append
+	 * @throws IllegalArgumentException if the year is out of {@link PackedTimes#MIN_YEAR} and {@link PackedTimes#MAX_YEAR}
+	 */
+	public void add(@NotNull Times times) {
+		addPacked(PackedTimes.pack(times));
+	}
+
+	/**
+	 * Appends the given packed time.
+	 *
+	 * @param packed the packed value, created by {@link PackedTimes#pack(long, long, long, long, long, long, long)}
+	 */
+	public void addPacked(long packed) {
+		if (size == this.packed.length) grow(size + 1);
+		this.packed[size++] = packed;
+	}
+
+	/**
+	 * Appends all times of the given series.
+	 *
+	 * @param series the series to append
+	 */
+	public void addAll(@NotNull TimesSeries series) {
+		int count = series.size;
+		if (size + count > packed.length) grow(size + count);
+		System.arraycopy(series.packed, 0, packed, size, count);
+		size += count;
+	}
+
+	/**
+	 * Returns the time at the given index as a {@link PackedTimes}, which holds only the packed value.
+	 *
+	 * @param index the index
+	 * @return the time at the index
+	 * @throws IndexOutOfBoundsException if the index is out of the series
+	 */
+	@NotNull
+	public PackedTimes get(int index) {
+		return PackedTimes.ofPacked(getPacked(index));
+	}
+
+	/**
+	 * @param index the index
+	 * @return the packed time at the given index
+	 * @throws IndexOutOfBoundsException if the index is out of the series
+	 */
+	public long getPacked(int index) {
+		Objects.checkIndex(index, size);
+		return packed[index];
+	}
+
+	/**
+	 * Replaces the time at the given index.
+	 *
+	 * @param index the index
+	 * @param times the new time
+	 * @throws IndexOutOfBoundsException if the index is out of the series
+	 * @throws IllegalArgumentException  if the year is out of {@link PackedTimes#MIN_YEAR} and {@link PackedTimes#MAX_YEAR}
+	 */
+	public void set(int index, @NotNull Times times) {
+		setPacked(index, PackedTimes.pack(times));
+	}
+
+	/**
+	 * Replaces the packed time at the given index.
+	 *
+	 * @param index  the index
+	 * @param packed the new packed value
+	 * @throws IndexOutOfBoundsException if the index is out of the series
+	 */
+	public void setPacked(int index, long packed) {
+		Objects.checkIndex(index, size);
+		this.packed[index] = packed;
+	}
+
+	/**
+	 * @return the number of times in the series
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return {@code true} if the series has no times
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Removes all times, the capacity is kept.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Shrinks the capacity to the size.
+	 */
+	public void trimToSize() {
+		if (packed.length != size) packed = size == 0 ? EMPTY : Arrays.copyOf(packed, size);
+	}
+
+	/**
+	 * Sorts the times in ascending order.
+	 */
+	public void sort() {
+		Arrays.sort(packed, 0, size);
+	}
+
+	/**
+	 * @return {@code true} if the times are in ascending order
+	 */
+	public boolean isSorted() {
+		for (int i = 1; i < size; i++) {
+			if (packed[i - 1] > packed[i]) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return the earliest time
+	 * @throws NoSuchElementException if the series is empty
+	 */
+	@NotNull
+	public PackedTimes min() {
+		return PackedTimes.ofPacked(minPacked());
+	}
+
+	/**
+	 * @return the latest time
+	 * @throws NoSuchElementException if the series is empty
+	 */
+	@NotNull
+	public PackedTimes max() {
+		return PackedTimes.ofPacked(maxPacked());
+	}
+
+	/**
+	 * @return the packed value of the earliest time
+	 * @throws NoSuchElementException if the series is empty
+	 */
+	public long minPacked() {
+		if (size == 0) throw new NoSuchElementException("Series is empty");
+		long min = packed[0];
+		for (int i = 1; i < size; i++) min = Math.min(min, packed[i]);
+		return min;
+	}
+
+	/**
+	 * @return the packed value of the latest time
+	 * @throws NoSuchElementException if the series is empty
+	 */
+	public long maxPacked() {
+		if (size == 0) throw new NoSuchElementException("Series is empty");
+		long max = packed[0];
+		for (int i = 1; i < size; i++) max = Math.max(max, packed[i]);
+		return max;
+	}
+
+	/**
+	 * Returns an iterator over the packed values.
+	 * The series must not be changed while iterating.
+	 *
+	 * @return new iterator
+	 */
+	@NotNull
+	public PrimitiveIterator.OfLong packedIterator() {
+		return new PrimitiveIterator.OfLong() {
+			private int index;
+
+			@Override
+			public boolean hasNext() {
+				return index < size;
+			}
+
+			@Override
+			public long nextLong() {
+				if (index >= size) throw new NoSuchElementException();
+				return packed[index++];
+			}
+		};
+	}
+
+	/**
+	 * @return a stream of the packed values
+	 */
+	@NotNull
+	public LongStream packedStream() {
+		return Arrays.stream(packed, 0, size);
+	}
+
+	/**
+	 * @return a copy of the packed values
+	 */
+	public long @NotNull [] toPackedArray() {
+		return Arrays.copyOf(packed, size);
+	}
+
+	/**
+	 * Returns the backing array without copying, for the bulk operations of this package.
+	 * Only the first {@link #size()} values are valid.
+	 */
+	long[] array() {
+		return packed;
+	}
+
+	private void grow(int minCapacity) {
+		int capacity = Math.max(minCapacity, Math.max(DEFAULT_CAPACITY, packed.length + (packed.length >> 1)));
+		packed = Arrays.copyOf(packed, capacity);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof TimesSeries other && Arrays.equals(packed, 0, size, other.packed, 0, other.size);
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < size; i++) hash = 31 * hash + Long.hashCode(packed[i]);
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		return "TimesSeries[size=" + size + "]";
+	}
+}
@@ -0,0 +1,224 @@
+package tr.xyz.times;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code ZoneTable} converts between the epoch milliseconds and the local times of a zone with the Gregorian calendar,
+ * like {@link LocalDateTime} does, without looking up the {@link ZoneRules} per conversion.
+ * <p>
+ * The offset transitions of the zone are computed once into primitive arrays up to the year {@link #END_YEAR},
+ * and each conversion is a binary search over them. Times after that year are converted with the {@link ZoneRules}.
+ * Like {@link LocalDateTime#atZone(ZoneId)}, a local time in a gap is moved forward by the length of the gap,
+ * and a local time in an overlap takes the earlier offset.
+ * <br>
+ * {@snippet lang = java:
+ * var zone  = ZoneTable.of(ZoneId.of("Europe/Istanbul"));
+ * var times = zone.ofEpochMillis(System.currentTimeMillis());
+ * long back = zone.toEpochMillis(times);
+ *}
+ * <p>
+ * The local times are decomposed like {@link Times#of(LocalDateTime)}, so the day {@code 31} is cycled by the day digit.
+ */
+public final class ZoneTable {
+	/**
+	 * The year the transitions are computed up to.
+	 */
+	public static final int END_YEAR = 2200;
+
+	private static final long MILLIS_PER_DAY = 86_400_000L;
+	private static final long END_MILLIS     = LocalDateTime.of(END_YEAR, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC) * 1000L;
+
+	private static volatile ZoneTable systemDefault;
+
+	private final ZoneId    zone;
+	private final ZoneRules rules;
+	/**
+	 * The epoch milliseconds of the transitions.
+	 */
+	private final long[]    transitions;
+	/**
+	 * The local milliseconds from which the offset after each transition is used for the local times.
+	 */
+	private final long[]    localTransitions;
+	/**
+	 * The offset milliseconds before the first transition and after each transition, one more than the transitions.
+	 */
+	private final int[]     offsets;
+	/**
+	 * The epoch milliseconds the table is valid until, exclusive.
+	 */
+	private final long      until;
+
+	private ZoneTable(ZoneId zone) {
+		this.zone  = zone;
+		this.rules = zone.getRules();
+
+		List<ZoneOffsetTransition> list = new ArrayList<>(rules.getTransitions());
+		var next = rules.nextTransition(list.isEmpty() ? Instant.ofEpochMilli(0) : list.get(list.size() - 1).getInstant());
+		while (next != null && next.toEpochSecond() * 1000L < END_MILLIS) {
+			list.add(next);
+			next = rules.nextTransition(next.getInstant());
+		}
+		this.until = next == null ? Long.MAX_VALUE : END_MILLIS;
+
+		int size = list.size();
+		this.transitions      = new long[size];
+		this.localTransitions = new long[size];
+		this.offsets          = new int[size + 1];
+		offsets[0]            = size == 0 ? rules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000 : list.get(0).getOffsetBefore().getTotalSeconds() * 1000;
+		for (int i = 0; i < size; i++) {
+			var transition = list.get(i);
+			int before     = transition.getOffsetBefore().getTotalSeconds() * 1000;
+			int after      = transition.getOffsetAfter().getTotalSeconds() * 1000;
+			transitions[i]      = transition.toEpochSecond() * 1000L;
+			// The gap and the overlap are both local times that keep the offset before
+			localTransitions[i] = transitions[i] + Math.max(before, after);
+			offsets[i + 1]      = after;
+		}
+	}
+
+	/**
+	 * Creates the table of the given zone.
+	 *
+	 * @param zone the zone
+	 * @return new {@code ZoneTable}
+	 */
+	@NotNull
+	public static ZoneTable of(@NotNull ZoneId zone) {
+		return new ZoneTable(zone);
+	}
+
+	/**
+	 * Returns the table of the system default zone, it is created again only if the default zone changes.
+	 *
+	 * @return the {@code ZoneTable} of the system default zone
+	 */
+	@NotNull
+	public static ZoneTable systemDefault() {
+		var zone    = ZoneId.systemDefault();
+		var current = systemDefault;
+		if (current == null || !current.zone.equals(zone)) systemDefault = current = new ZoneTable(zone);
+		return current;
+	}
+
+	/**
+	 * @return the zone of this table
+	 */
+	@NotNull
+	public ZoneId getZone() {
+		return zone;
+	}
+
+	/**
+	 * Returns the offset of the zone at the given instant.
+	 *
+	 * @param epochMillis the milliseconds from {@code 1970-01-01T00:00:00Z}
+	 * @return the offset in milliseconds
+	 */
+	public int offsetMillis(long epochMillis) {
+		if (epochMillis >= until) return rules.getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1000;
+		return offsets[upperBound(transitions, epochMillis)];
+	}
+
+	/**
+	 * Converts the given instant to the local time of the zone.
+	 *
+	 * @param epochMillis the milliseconds from {@code 1970-01-01T00:00:00Z}
+	 * @return new {@code Times}
+	 */
+	@NotNull
+	public Times ofEpochMillis(long epochMillis) {
+		return SystemClock.ofLocalMillis(epochMillis + offsetMillis(epochMillis));
+	}
+
+	/**
+	 * Converts the given instant to the local time of the zone, the nanoseconds below a millisecond are truncated.
+	 *
+	 * @param instant the instant
+	 * @return new {@code Times}
+	 */
+	@NotNull
+	public Times ofInstant(@NotNull Instant instant) {
+		return ofEpochMillis(instant.toEpochMilli());
+	}
+
+	/**
+	 * Converts the given local time of the zone to the epoch milliseconds.
+	 *
+	 * @param times the local time
+	 * @return the milliseconds from {@code 1970-01-01T00:00:00Z}
+	 * @throws ArithmeticException if the result does not fit in a {@code long}
+	 */
+	public long toEpochMillis(@NotNull Times times) {
+		long localMillis = localMillis(times);
+		// A local time is at most a day away from its instant
+		if (localMillis >= until - MILLIS_PER_DAY) {
+			var dateTime = LocalDateTime.ofEpochSecond(Math.floorDiv(localMillis, 1000L), (int) Math.floorMod(localMillis, 1000L) * 1_000_000, ZoneOffset.UTC);
+			return dateTime.atZone(zone).toInstant().toEpochMilli();
+		}
+		return localMillis - offsets[upperBound(localTransitions, localMillis)];
+	}
+
+	/**
+	 * Converts the given local time of the zone to an instant.
+	 *
+	 * @param times the local time
+	 * @return new {@code Instant}
+	 * @throws ArithmeticException if the result does not fit in a {@code long}
+	 */
+	@NotNull
+	public Instant toInstant(@NotNull Times times) {
+		return Instant.ofEpochMilli(toEpochMillis(times));
+	}
+
+	/**
+	 * Returns the number of the values that are less than or equal to the key.
+	 */
+	private static int upperBound(long[] values, long key) {
+		int low  = 0;
+		int high = values.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (values[mid] <= key) low = mid + 1;
+			else high = mid;
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the milliseconds of the given Gregorian local time from {@code 1970-01-01T00:00:00}.
+	 */
+	private static long localMillis(Times times) {
+		long year  = times.getYear().getValue();
+		long month = times.getMonth().getValue();
+		long day   = times.getDay().getValue();
+
+		// Civil date to days (proleptic Gregorian), see http://howardhinnant.github.io/date_algorithms.html
+		long y    = month <= 2L ? year - 1L : year;
+		long era  = Math.floorDiv(y, 400L);
+		long yoe  = y - era * 400L;
+		long doy  = (153L * (month > 2L ? month - 3L : month + 9L) + 2L) / 5L + day - 1L;
+		long doe  = yoe * 365L + yoe / 4L - yoe / 100L + doy;
+		long days = Math.addExact(Math.multiplyExact(era, 146_097L), doe - 719_468L);
+
+		long millisDay = times.getHour().getValue() * 3_600_000L
+		                 + times.getMinute().getValue() * 60_000L
+		                 + times.getSecond().getValue() * 1_000L
+		                 + times.getMillisecond().getValue();
+		return Math.addExact(Math.multiplyExact(days, MILLIS_PER_DAY), millisDay);
+	}
+
+	@Override
+	public String toString() {
+		return "ZoneTable[" + zone + ", " + transitions.length + " transitions]";
+	}
+}
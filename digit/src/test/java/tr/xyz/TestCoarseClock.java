@@ -0,0 +1,62 @@
+package tr.xyz;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tr.xyz.times.CoarseClock;
+import tr.xyz.times.PackedTimes;
+import tr.xyz.times.Times;
+
+public class TestCoarseClock {
+	/**
+	 * Scheduling delay allowed on top of the resolution, test machines can be busy.
+	 */
+	private static final long TOLERANCE_MILLIS = 200;
+
+	@AfterEach
+	public void stop() {
+		CoarseClock.stop();
+	}
+
+	@Test
+	public void testDrift() {
+		CoarseClock.start(1);
+		Assertions.assertTrue(CoarseClock.isRunning());
+		Assertions.assertEquals(1, CoarseClock.getResolutionMillis());
+		for (int i = 0; i < 1000; i++) {
+			var coarse = Times.nowCoarse();
+			var fast   = Times.nowFast();
+			Assertions.assertInstanceOf(PackedTimes.class, coarse);
+			Assertions.assertTrue(coarse.compareTo(fast) <= 0, coarse + " is after " + fast);
+			Assertions.assertTrue(fast.betweenMillis(coarse) <= 1 + TOLERANCE_MILLIS, coarse + " is too far from " + fast);
+		}
+	}
+
+	@Test
+	public void testStaleness() throws InterruptedException {
+		CoarseClock.start(5);
+		var first = Times.nowCoarse();
+		Thread.sleep(50);
+		var second = Times.nowCoarse();
+		Assertions.assertTrue(second.compareTo(first) > 0, second + " is not refreshed after " + first);
+
+		// Restarting with a new resolution replaces the daemon
+		CoarseClock.start(10);
+		Assertions.assertEquals(10, CoarseClock.getResolutionMillis());
+		Assertions.assertTrue(Times.nowFast().betweenMillis(Times.nowCoarse()) <= 10 + TOLERANCE_MILLIS);
+	}
+
+	@Test
+	public void testStopped() {
+		CoarseClock.start();
+		CoarseClock.stop();
+		CoarseClock.stop();
+		Assertions.assertFalse(CoarseClock.isRunning());
+		Assertions.assertEquals(0, CoarseClock.getResolutionMillis());
+		var before = Times.nowFast();
+		var coarse = Times.nowCoarse();
+		Assertions.assertTrue(coarse.compareTo(before) >= 0);
+		Assertions.assertThrows(IllegalArgumentException.class, () -> CoarseClock.start(0));
+		Assertions.assertFalse(CoarseClock.isRunning());
+	}
+}
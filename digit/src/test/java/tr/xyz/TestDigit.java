@@ -4,6 +4,8 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import tr.xyz.digit.Digit;
+import tr.xyz.digit.DigitCache;
+import tr.xyz.digit.MutableDigit;
 
 public class TestDigit {
 	private static final int INC_DEC_LOOP_COUNT = 19;
@@ -463,4 +465,63 @@ public class TestDigit {
 	}
 	
 	
+	@Test
+	public void testMutableDigit() {
+		var   mutable = new MutableDigit(2, 2, 4);
+		Digit simple  = Digit.of(2, 2, 4);
+		long[] steps  = {-1, 1, 1, 1, 2, 2, 2, 1, 6, 6, 3, 27, -3, -3, -6, -9, -27, 2, 1};
+		
+		for (long step : steps) {
+			simple = simple.plus(step);
+			Assertions.assertSame(mutable, mutable.plus(step));
+			Assertions.assertEquals(simple.getValue(), mutable.getValue());
+			Assertions.assertEquals(simple.getCycleCount(), mutable.getCycleCount());
+			Assertions.assertEquals(simple, mutable);
+		}
+		
+		var frozen = mutable.freeze();
+		mutable.increment();
+		Assertions.assertEquals(simple, frozen);
+		Assertions.assertNotEquals(frozen, mutable);
+		Assertions.assertEquals(simple.increment(), mutable);
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new MutableDigit(0, 19, 12));
+	}
+	
+	@Test
+	public void testCache() {
+		Assertions.assertTrue(DigitCache.register(0, 59));
+		DigitCache.setStatisticsEnabled(true);
+		try {
+			var hits   = DigitCache.hits();
+			var misses = DigitCache.misses();
+			
+			Assertions.assertSame(Digit.of(30, 0, 59), Digit.of(30, 0, 59));
+			Assertions.assertSame(Digit.range(0, 59), Digit.of(0, 59).plus(1).minus(1));
+			Assertions.assertEquals(hits + 6, DigitCache.hits());
+			Assertions.assertEquals(misses, DigitCache.misses());
+			
+			// Cycled values are not cached, they have a cycle count
+			var cycled = Digit.of(60, 0, 59);
+			Assertions.assertEquals(misses + 1, DigitCache.misses());
+			Assertions.assertEquals(0, cycled.getValue());
+			Assertions.assertEquals(1, cycled.getCycleCount());
+			Assertions.assertEquals(0, Digit.of(0, 0, 59).getCycleCount());
+		}
+		finally {
+			DigitCache.setStatisticsEnabled(false);
+		}
+		
+		// Not counted when the statistics are disabled
+		var hits   = DigitCache.hits();
+		var misses = DigitCache.misses();
+		Assertions.assertSame(Digit.of(30, 0, 59), Digit.of(30, 0, 59));
+		Assertions.assertNotSame(Digit.of(60, 0, 59), Digit.of(60, 0, 59));
+		Assertions.assertEquals(hits, DigitCache.hits());
+		Assertions.assertEquals(misses, DigitCache.misses());
+		
+		// Out of budget
+		Assertions.assertFalse(DigitCache.register(0, DigitCache.BUDGET));
+		Assertions.assertTrue(DigitCache.size() <= DigitCache.BUDGET);
+	}
+	
 }
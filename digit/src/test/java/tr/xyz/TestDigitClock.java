@@ -0,0 +1,48 @@
+package tr.xyz;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tr.xyz.durations.Duration;
+import tr.xyz.times.DigitClock;
+import tr.xyz.times.Times;
+
+import java.util.ArrayList;
+
+public class TestDigitClock {
+	private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+	@Test
+	public void testTick() {
+		var start = Times.of(2024, 12, 30, 23, 59, 59, 999);
+		var clock = new DigitClock(start);
+		Assertions.assertEquals(start, clock.snapshot());
+		Assertions.assertEquals(Times.of(2025), clock.tick(Duration.ofMilliseconds(1)));
+		Assertions.assertEquals(Times.of(2025, 2, 1), clock.tick(Duration.ofMonths(1)));
+		Assertions.assertEquals(Times.of(2024, 2, 1), clock.tick(Duration.ofYears(-1)));
+		Assertions.assertEquals(Times.of(2024, 2, 1).plus(Duration.ofDays(45)), clock.tick(Duration.ofDays(45)));
+
+		clock.set(Times.of(1969, 12, 30));
+		Assertions.assertEquals(-DAY_MILLIS, clock.epochMillis());
+		Assertions.assertEquals(Times.of(1969, 12, 30), clock.snapshot());
+		Assertions.assertEquals(Times.of(1970), Times.ofEpochMillis(clock.advance(DAY_MILLIS)));
+		Assertions.assertEquals(Times.of(1970), DigitClock.ofEpochMillis(0).snapshot());
+	}
+
+	@Test
+	public void testContention() throws InterruptedException {
+		var start   = Times.of(2024, 5, 6, 14, 50);
+		var clock   = new DigitClock(start);
+		int threads = 8;
+		int ticks   = 10_000;
+		var workers = new ArrayList<Thread>();
+		for (int t = 0; t < threads; t++) {
+			var worker = new Thread(() -> {
+				for (int i = 0; i < ticks; i++) clock.tick(Duration.ofMilliseconds(1));
+			});
+			workers.add(worker);
+			worker.start();
+		}
+		for (var worker : workers) worker.join();
+		Assertions.assertEquals(start.plus(Duration.ofMilliseconds((long) threads * ticks)), clock.snapshot());
+	}
+}
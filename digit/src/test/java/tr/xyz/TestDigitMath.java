@@ -0,0 +1,122 @@
+package tr.xyz;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tr.xyz.digit.Digit;
+import tr.xyz.digit.DigitArrays;
+import tr.xyz.digit.DigitMath;
+import tr.xyz.digit.SimpleDigit;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+public class TestDigitMath {
+
+	/**
+	 * Cycles the value one range at a time, this is what a digit does by definition.
+	 */
+	private static long[] cycleByStep(long value, long min, long max) {
+		long range  = max - min + 1;
+		long cycles = 0;
+		while (value > max) {
+			value -= range;
+			cycles++;
+		}
+		while (value < min) {
+			value += range;
+			cycles--;
+		}
+		return new long[]{value, cycles};
+	}
+
+	@Test
+	public void testSmallRanges() {
+		for (long min = -7; min <= 7; min++) {
+			for (long max = min; max <= min + 12; max++) {
+				long range = max - min + 1;
+				for (long value = min - range * 6; value <= max + range * 6; value++) {
+					var expected = cycleByStep(value, min, max);
+					var message  = "value=" + value + " min=" + min + " max=" + max;
+					Assertions.assertEquals(expected[0], DigitMath.wrap(value, min, max), message);
+					Assertions.assertEquals(expected[1], DigitMath.cycles(value, min, max), message);
+
+					var digit = Digit.of(value, min, max);
+					Assertions.assertEquals(expected[0], digit.getValue(), message);
+					Assertions.assertEquals(expected[1], digit.getCycleCount(), message);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testLimits() {
+		long[] values = {Long.MIN_VALUE, Long.MIN_VALUE + 1, Digit.MIN - 1, Digit.MIN, 0, Digit.MAX, Digit.MAX + 1, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+		long[][] ranges = {{Digit.MIN, Digit.MAX}, {1, 12}, {0, 999}, {0, 0}, {Digit.MIN, 0}, {0, Digit.MAX}};
+		for (long[] range : ranges) {
+			long min = range[0];
+			long max = range[1];
+			for (long value : values) {
+				var message = "value=" + value + " min=" + min + " max=" + max;
+				long wrapped = DigitMath.wrap(value, min, max);
+				long cycles  = DigitMath.cycles(value, min, max);
+				Assertions.assertTrue(wrapped >= min && wrapped <= max, message);
+				// value == wrapped + cycles * range, checked with the exact arithmetic
+				var expected = BigInteger.valueOf(wrapped).add(BigInteger.valueOf(cycles).multiply(BigInteger.valueOf(max - min + 1)));
+				Assertions.assertEquals(BigInteger.valueOf(value), expected, message);
+			}
+		}
+
+		Assertions.assertEquals(Digit.MIN, DigitMath.wrap(Digit.MAX + 1, Digit.MIN, Digit.MAX));
+		Assertions.assertEquals(1, DigitMath.cycles(Digit.MAX + 1, Digit.MIN, Digit.MAX));
+		Assertions.assertEquals(Digit.MAX, DigitMath.wrap(Digit.MIN - 1, Digit.MIN, Digit.MAX));
+		Assertions.assertEquals(-1, DigitMath.cycles(Digit.MIN - 1, Digit.MIN, Digit.MAX));
+	}
+
+	@Test
+	public void testArrays() {
+		long[][] ranges = {{0, 59}, {1, 12}, {-3, 4}, {Digit.MIN, Digit.MAX}, {0, 0}};
+		long[]   values = new long[4000];
+		for (int i = 0; i < values.length; i++) values[i] = i - 2000;
+		values[0] = Long.MIN_VALUE;
+		values[1] = Long.MAX_VALUE;
+		
+		for (long[] range : ranges) {
+			long[] wrapped = new long[values.length];
+			long[] cycles  = new long[values.length];
+			DigitArrays.wrap(values, range[0], range[1], wrapped, cycles);
+			for (int i = 0; i < values.length; i++) {
+				var digit = new SimpleDigit(values[i], range[0], range[1]);
+				Assertions.assertEquals(digit.getValue(), wrapped[i]);
+				Assertions.assertEquals(digit.getCycleCount(), cycles[i]);
+			}
+		}
+		
+		// In place, without cycle counts
+		long[] inPlace = values.clone();
+		DigitArrays.wrap(inPlace, 10, 20, 0, 59, inPlace, null);
+		for (int i = 0; i < values.length; i++) {
+			Assertions.assertEquals(i >= 10 && i < 20 ? DigitMath.wrap(values[i], 0, 59) : values[i], inPlace[i]);
+		}
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> DigitArrays.wrap(values, 0, 59, new long[1], null));
+	}
+	
+	@Test
+	public void testArraysMixed() {
+		// Mostly in the range with a few out of range values, at the odd offsets of the vectors
+		var    random = new Random(42);
+		long[] values = new long[1003];
+		for (int i = 0; i < values.length; i++) values[i] = random.nextInt(10) == 0 ? random.nextLong() : random.nextInt(60);
+		
+		for (int from : new int[]{0, 1, 3, 7}) {
+			int    to      = values.length - from;
+			long[] wrapped = new long[values.length];
+			long[] cycles  = new long[values.length];
+			DigitArrays.wrap(values, from, to, 0, 59, wrapped, cycles);
+			for (int i = 0; i < values.length; i++) {
+				boolean inside = i >= from && i < to;
+				Assertions.assertEquals(inside ? DigitMath.wrap(values[i], 0, 59) : 0L, wrapped[i]);
+				Assertions.assertEquals(inside ? DigitMath.cycles(values[i], 0, 59) : 0L, cycles[i]);
+			}
+		}
+	}
+}
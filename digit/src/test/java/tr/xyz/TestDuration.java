@@ -3,8 +3,12 @@ package tr.xyz;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import tr.xyz.durations.Duration;
+import tr.xyz.durations.DurationCache;
+import tr.xyz.durations.DurationUnit;
 import tr.xyz.durations.Hour;
+import tr.xyz.durations.Minute;
 import tr.xyz.durations.Year;
+import tr.xyz.times.Times;
 
 import static tr.xyz.TestDigit.log;
 
@@ -52,4 +56,41 @@ public class TestDuration {
         Assertions.assertInstanceOf(Year.class, duration2);
     }
 
+    @Test
+    public void testCache() {
+        DurationCache.setStatisticsEnabled(true);
+        try {
+            var hits   = DurationCache.hits();
+            var misses = DurationCache.misses();
+
+            Assertions.assertSame(Duration.ofSeconds(59), Duration.ofSeconds(59));
+            Assertions.assertSame(Duration.ofMilliseconds(-1000), Duration.ofMilliseconds(-1000));
+            Assertions.assertSame(Duration.ofYears(1), Duration.ofYears(0).plus(1));
+            Assertions.assertNotSame(Duration.ofHours(25), Duration.ofHours(25));
+            Assertions.assertEquals(Duration.ofHours(25), Duration.ofHours(25));
+            Assertions.assertEquals(hits + 7, DurationCache.hits());
+            Assertions.assertEquals(misses + 4, DurationCache.misses());
+        }
+        finally {
+            DurationCache.setStatisticsEnabled(false);
+        }
+
+        var hits   = DurationCache.hits();
+        var misses = DurationCache.misses();
+        Assertions.assertSame(Duration.ofSeconds(1), Duration.ofSeconds(1));
+        Assertions.assertNotSame(Duration.ofHours(25), Duration.ofHours(25));
+        Assertions.assertEquals(hits, DurationCache.hits());
+        Assertions.assertEquals(misses, DurationCache.misses());
+    }
+
+    @Test
+    public void testUserDuration() {
+        // A duration implemented outside of the library gets its unit from the interface
+        Minute minutes = () -> 90;
+        Assertions.assertEquals(DurationUnit.MINUTE, minutes.getUnit());
+        Assertions.assertEquals(Duration.ofMinutes(91), minutes.plus(1));
+        Assertions.assertEquals(Times.of(2024, 5, 6, 1, 30), Times.of(2024, 5, 6).plus(minutes));
+        Assertions.assertThrows(IllegalStateException.class, ((Duration) () -> 1)::getUnit);
+    }
+
 }
@@ -0,0 +1,67 @@
+package tr.xyz;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tr.xyz.digit.Digit;
+import tr.xyz.durations.Duration;
+import tr.xyz.durations.DurationUnit;
+import tr.xyz.times.ImmutableTimes;
+import tr.xyz.times.PackedTimes;
+import tr.xyz.times.TimeDigit;
+import tr.xyz.times.Times;
+
+import java.util.Random;
+
+public class TestImmutableTimes {
+	@Test
+	public void testSameInstance() {
+		var time = ImmutableTimes.of(Times.of(2024, 5, 6, 14, 50));
+		Assertions.assertSame(time, time.copy());
+		Assertions.assertSame(time, ImmutableTimes.of(time));
+		for (var unit : DurationUnit.values()) Assertions.assertSame(time, time.plus(unit, 0));
+		Assertions.assertSame(time, time.plus(Duration.ofHours(0)));
+		Assertions.assertSame(time, time.with(TimeDigit.hour(14)));
+		Assertions.assertSame(time, time.with(TimeDigit.year(2024)));
+		Assertions.assertNotSame(time, time.with(TimeDigit.minute(51)));
+
+		var packed = PackedTimes.of(time);
+		Assertions.assertSame(packed, packed.plus(DurationUnit.DAY, 0));
+		Assertions.assertSame(packed, packed.with(TimeDigit.day(6)));
+	}
+
+	@Test
+	public void testImmutableDigits() {
+		var time = ImmutableTimes.of(Times.of(2024, 5, 6, 14, 50));
+		var hour = time.getHour();
+		Assertions.assertEquals(15, hour.increment().getValue());
+		Assertions.assertEquals(0, time.getHour().plus(10).getValue());
+		Assertions.assertEquals(14, hour.getValue());
+		Assertions.assertSame(hour, time.getHour());
+		time.getYear().increment();
+		Assertions.assertEquals(Times.of(2024, 5, 6, 14, 50), time);
+		Assertions.assertThrows(UnsupportedOperationException.class, () -> time.getMinute().leftDigit(TimeDigit.hour(1)));
+	}
+
+	@Test
+	public void testSameAsTimeDigits() {
+		var random = new Random(23);
+		long[] years = {Digit.MIN, PackedTimes.MIN_YEAR, -1, 0, 1981, 2024, PackedTimes.MAX_YEAR, PackedTimes.MAX_YEAR + 1, Digit.MAX};
+		for (int i = 0; i < 5000; i++) {
+			var digits    = Times.of(years[random.nextInt(years.length)], random.nextInt(12) + 1, random.nextInt(30) + 1, random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000));
+			var other     = Times.of(years[random.nextInt(years.length)], random.nextInt(12) + 1, random.nextInt(30) + 1, random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000));
+			var immutable = ImmutableTimes.of(digits);
+			var unit      = DurationUnit.values()[random.nextInt(DurationUnit.values().length)];
+			long amount   = random.nextInt(2_000_001) - 1_000_000;
+
+			Assertions.assertEquals(digits, immutable);
+			Assertions.assertEquals(digits.toString(), immutable.toString());
+			Assertions.assertEquals(Integer.signum(digits.compareTo(other)), Integer.signum(immutable.compareTo(other)));
+			Assertions.assertEquals(Integer.signum(digits.compareTo(other)), Integer.signum(immutable.compareTo(ImmutableTimes.of(other))));
+			Assertions.assertEquals(digits.plus(unit, amount), immutable.plus(unit, amount), () -> digits + " + " + amount + " " + unit);
+			Assertions.assertEquals(digits.with(TimeDigit.of(unit, amount)), immutable.with(TimeDigit.of(unit, amount)));
+			if (Math.abs(digits.getYear().getValue()) < Digit.MAX / 2 && Math.abs(other.getYear().getValue()) < Digit.MAX / 2) {
+				Assertions.assertEquals(digits.between(other), immutable.between(other), () -> digits + " <> " + other);
+			}
+		}
+	}
+}
@@ -0,0 +1,85 @@
+package tr.xyz;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tr.xyz.durations.Duration;
+import tr.xyz.times.PackedTimes;
+import tr.xyz.times.Times;
+
+public class TestPackedTimes {
+	@Test
+	public void testCreation() {
+		var times  = Times.of(2024, 5, 6, 14, 50, 59, 999);
+		var packed = PackedTimes.of(times);
+
+		Assertions.assertEquals(2024, packed.getYear().getValue());
+		Assertions.assertEquals(5, packed.getMonth().getValue());
+		Assertions.assertEquals(6, packed.getDay().getValue());
+		Assertions.assertEquals(14, packed.getHour().getValue());
+		Assertions.assertEquals(50, packed.getMinute().getValue());
+		Assertions.assertEquals(59, packed.getSecond().getValue());
+		Assertions.assertEquals(999, packed.getMillisecond().getValue());
+
+		// Lossless both ways
+		Assertions.assertEquals(times, packed);
+		Assertions.assertEquals(packed, times);
+		Assertions.assertEquals(times, packed.toTimeDigits());
+		Assertions.assertEquals(packed, PackedTimes.ofPacked(packed.getPacked()));
+		Assertions.assertEquals(times.toString(), packed.toString());
+
+		// Cycled like Times.of
+		Assertions.assertEquals(Times.of(2024, 13, 31, 24, 60, 60, 1000), PackedTimes.of(2024, 13, 31, 24, 60, 60, 1000));
+		Assertions.assertEquals(Times.of(-5, 0, 0, -1, -1, -1, -1), PackedTimes.of(-5, 0, 0, -1, -1, -1, -1));
+
+		// Year limits
+		Assertions.assertEquals(PackedTimes.MIN_YEAR, PackedTimes.of(Times.of(PackedTimes.MIN_YEAR)).getYear().getValue());
+		Assertions.assertEquals(PackedTimes.MAX_YEAR, PackedTimes.of(Times.of(PackedTimes.MAX_YEAR)).getYear().getValue());
+		Assertions.assertThrows(IllegalArgumentException.class, () -> PackedTimes.of(Times.of(PackedTimes.MAX_YEAR + 1)));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> PackedTimes.of(Times.of(PackedTimes.MIN_YEAR - 1)));
+	}
+
+	@Test
+	public void testCompare() {
+		Times[] times = {
+				Times.of(-1, 12, 30, 23, 59, 59, 999),
+				Times.of(0),
+				Times.of(0, 1, 1, 0, 0, 0, 1),
+				Times.of(1981, 12, 4, 23, 45),
+				Times.of(2024, 5, 6, 14, 50),
+				Times.of(2024, 5, 6, 14, 50, 0, 1),
+				Times.of(PackedTimes.MAX_YEAR)
+		};
+		for (var a : times) {
+			for (var b : times) {
+				var pa = PackedTimes.of(a);
+				var pb = PackedTimes.of(b);
+				Assertions.assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(pa.compareTo(pb)));
+				Assertions.assertEquals(Integer.signum(a.compareTo(b)), Integer.signum(pa.compareTo(b)));
+				Assertions.assertEquals(a.equals(b), pa.equals(pb));
+				if (pa.equals(pb)) Assertions.assertEquals(pa.hashCode(), pb.hashCode());
+			}
+		}
+	}
+
+	@Test
+	public void testBetweenAndPlus() {
+		var now        = PackedTimes.of(Times.of(2024, 5, 6, 14, 50));
+		var myBirthDay = PackedTimes.of(Times.of(1981, 12, 4, 23, 45));
+		var between    = now.between(myBirthDay);
+
+		Assertions.assertEquals(Times.of(2024, 5, 6, 14, 50).between(Times.of(1981, 12, 4, 23, 45)), between);
+		Assertions.assertEquals(between, myBirthDay.between(now));
+		Assertions.assertEquals(now, myBirthDay.plus(between));
+
+		var time = PackedTimes.of(Times.of(2024, 12, 30, 23, 59, 59, 999));
+		Assertions.assertEquals(Times.of(2025, 1, 1, 0, 0, 0, 0), time.plus(Duration.ofMilliseconds(1)));
+		Assertions.assertEquals(Times.of(2024, 12, 30, 23, 59, 59, 998), time.plus(Duration.ofMilliseconds(-1)));
+		Assertions.assertEquals(Times.of(2025, 1, 30, 23, 59, 59, 999), time.plus(Duration.ofMonths(1)));
+		Assertions.assertEquals(Times.of(2024, 12, 30, 23, 59, 59, 999), time.plus(Duration.ofDays(30)).plus(Duration.ofDays(-30)));
+
+		// Immutable
+		Assertions.assertEquals(Times.of(2024, 12, 30, 23, 59, 59, 999), time);
+		time.getYear().increment();
+		Assertions.assertEquals(2024, time.getYear().getValue());
+	}
+}
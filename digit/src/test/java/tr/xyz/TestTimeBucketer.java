@@ -0,0 +1,70 @@
+package tr.xyz;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tr.xyz.durations.DurationUnit;
+import tr.xyz.times.PackedTimes;
+import tr.xyz.times.TimeBucketer;
+import tr.xyz.times.Times;
+import tr.xyz.times.TimesSeries;
+
+import java.util.Random;
+
+public class TestTimeBucketer {
+	@Test
+	public void testBuckets() {
+		var bucketer = new TimeBucketer(DurationUnit.MINUTE, 5, Times.of(2024, 5, 6), Times.of(2024, 5, 7));
+		Assertions.assertEquals(24 * 12, bucketer.size());
+		Assertions.assertEquals(Times.of(2024, 5, 6), bucketer.getStart(0));
+		Assertions.assertEquals(Times.of(2024, 5, 6, 23, 55), bucketer.getStart(bucketer.size() - 1));
+
+		Assertions.assertEquals(0, bucketer.add(Times.of(2024, 5, 6, 0, 4, 59, 999), 10));
+		Assertions.assertEquals(1, bucketer.add(Times.of(2024, 5, 6, 0, 5), 20));
+		Assertions.assertEquals(1, bucketer.addPacked(PackedTimes.pack(2024, 5, 6, 0, 9, 0, 0), 30));
+		Assertions.assertEquals(-1, bucketer.add(Times.of(2024, 5, 7)));
+		Assertions.assertEquals(-1, bucketer.add(Times.of(2024, 5, 5, 23, 59, 59, 999)));
+		Assertions.assertEquals(1, bucketer.getCount(0));
+		Assertions.assertEquals(2, bucketer.getCount(1));
+		Assertions.assertEquals(50, bucketer.getSum(1));
+		Assertions.assertEquals(2, bucketer.getOutOfRange());
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> bucketer.getCount(bucketer.size()));
+
+		bucketer.clear();
+		Assertions.assertEquals(0, bucketer.getCount(1));
+		Assertions.assertEquals(0, bucketer.getOutOfRange());
+	}
+
+	@Test
+	public void testSameAsTruncation() {
+		var random = new Random(25);
+		var years  = new TimesSeries();
+		var hour   = new TimesSeries();
+		for (int i = 0; i < 10_000; i++) {
+			years.add(Times.of(random.nextInt(3) + 2023, random.nextInt(12) + 1, random.nextInt(30) + 1, random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000)));
+			hour.add(Times.of(2024, 5, 6, 14, random.nextInt(60), random.nextInt(60), random.nextInt(1000)));
+		}
+		for (var unit : DurationUnit.values()) {
+			// Small units in a small range, the buckets are allocated for the whole range
+			if (unit.getMillis() < DurationUnit.HOUR.getMillis()) assertSameAsTruncation(hour, unit, Times.of(2024, 5, 6, 14, 0), Times.of(2024, 5, 6, 15, 0));
+			else assertSameAsTruncation(years, unit, Times.of(2023), Times.of(2026));
+		}
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new TimeBucketer(DurationUnit.HOUR, 0, Times.of(2024), Times.of(2025)));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new TimeBucketer(DurationUnit.HOUR, 1, Times.of(2024), Times.of(2024)));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new TimeBucketer(DurationUnit.MILLISECOND, 1, Times.of(2023), Times.of(2026)));
+	}
+
+	private static void assertSameAsTruncation(TimesSeries series, DurationUnit unit, Times from, Times to) {
+		var bucketer = new TimeBucketer(unit, 1, from, to);
+		bucketer.addAll(series);
+		Assertions.assertEquals(0, bucketer.getOutOfRange());
+		for (int i = 0; i < series.size(); i++) {
+			var  time   = series.get(i);
+			long bucket = bucketer.bucketOf(time);
+			Assertions.assertEquals(bucket, bucketer.bucketOfPacked(series.getPacked(i)));
+			Assertions.assertEquals(time.truncatedTo(unit), bucketer.getStartOf(bucket));
+		}
+		long total = 0;
+		for (long count : bucketer.toCountArray()) total += count;
+		Assertions.assertEquals(series.size(), total);
+	}
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import tr.xyz.times.Millisecond;
 import tr.xyz.times.TimeDigit;
+import tr.xyz.times.Times;
 import tr.xyz.times.Year;
 
 public class TestTimeDigit {
@@ -121,4 +122,39 @@ public class TestTimeDigit {
 		
 		
 	}
+	
+	@Test
+	public void testCarry() {
+		var time = Times.of(2023, 12, 30, 23, 59, 59, 999);
+		
+		// Full cascade from the millisecond to the year
+		time.getMillisecond().increment();
+		Assertions.assertEquals(Times.of(2024, 1, 1), time);
+		Assertions.assertEquals(1, time.getMillisecond().getCycleCount());
+		Assertions.assertEquals(1, time.getMonth().getCycleCount());
+		Assertions.assertEquals(0, time.getYear().getCycleCount());
+		
+		time.getMillisecond().decrement();
+		Assertions.assertEquals(Times.of(2023, 12, 30, 23, 59, 59, 999), time);
+		Assertions.assertEquals(-1, time.getDay().getCycleCount());
+		
+		// Many cycles at once
+		time.getSecond().plus(60L * 60 * 24 * 30 * 12 * 2);
+		Assertions.assertEquals(Times.of(2025, 12, 30, 23, 59, 59, 999), time);
+		time.getMinute().minus(60L * 24 * 30 * 12 * 2 + 1);
+		Assertions.assertEquals(Times.of(2023, 12, 30, 23, 58, 59, 999), time);
+		
+		// Not coupled digits do not carry
+		var hour = TimeDigit.hour(23);
+		hour.increment();
+		Assertions.assertEquals(0, hour.getValue());
+		Assertions.assertEquals(1, hour.getCycleCount());
+		
+		// Coupled by hand
+		var day = TimeDigit.day(30);
+		hour.leftDigit(day);
+		hour.minus(1);
+		Assertions.assertEquals(23, hour.getValue());
+		Assertions.assertEquals(29, day.getValue());
+	}
 }
@@ -2,12 +2,24 @@ package tr.xyz;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import tr.xyz.digit.Digit;
+import tr.xyz.durations.Day;
 import tr.xyz.durations.Duration;
+import tr.xyz.durations.DurationUnit;
+import tr.xyz.durations.Hour;
+import tr.xyz.durations.Minute;
+import tr.xyz.durations.Month;
+import tr.xyz.times.ImmutableTimes;
+import tr.xyz.times.PackedTimes;
 import tr.xyz.times.TimeDigit;
 import tr.xyz.times.Times;
 
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
 import java.time.LocalDateTime;
 import java.time.Period;
+import java.util.HashSet;
+import java.util.Random;
 
 import static tr.xyz.TestDigit.log;
 
@@ -87,4 +99,164 @@ public class TestTimeDigits {
 		
 	}
 	
+	@Test
+	public void testPlusCarry() {
+		// Day 30 of February is a valid digit-calendar date
+		var february = Times.of(2023, 2, 30, 23, 59, 59, 999);
+		Assertions.assertEquals(Times.of(2023, 3, 1), february.plus(Duration.ofMilliseconds(1)));
+		Assertions.assertEquals(Times.of(2023, 2, 30, 23, 59, 59, 998), february.plus(Duration.ofMilliseconds(-1)));
+		Assertions.assertEquals(Times.of(2024, 2, 30, 23, 59, 59, 999), february.plus(Duration.ofMonths(12)));
+		Assertions.assertEquals(Times.of(2024, 1, 1), Times.of(2023, 12, 30, 23, 59, 59, 999).plus(TimeDigit.millisecond(1)));
+		Assertions.assertEquals(Times.of(2023, 1, 1, 0, 0, 0, 1), Times.of(2023, 1, 1).plus(Duration.ofMilliseconds(1)).plus(Duration.ofDays(-30)).plus(Duration.ofDays(30)));
+		
+		// The same result with step by step plus
+		var time = Times.of(1981, 12, 4, 23, 45);
+		var step = time;
+		for (int i = 0; i < 100; i++) step = step.plus(Duration.ofHours(7));
+		Assertions.assertEquals(time.plus(Duration.ofHours(700)), step);
+		Assertions.assertEquals(time.plus(Duration.ofDays(29)).plus(Duration.ofHours(4)), step);
+	}
+	
+	@Test
+	public void testBetweenRandom() {
+		var random = new Random(19811204);
+		for (int i = 0; i < 10_000; i++) {
+			var first  = Times.of(random.nextInt(4000) - 2000, random.nextInt(12) + 1, random.nextInt(30) + 1, random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000));
+			var second = i % 10 == 0 ? first.copy() : Times.of(random.nextInt(4000) - 2000, random.nextInt(12) + 1, random.nextInt(30) + 1, random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000));
+			var between = first.between(second);
+			
+			// Digit by digit subtraction of the packed times
+			Assertions.assertEquals(PackedTimes.of(first).between(PackedTimes.of(second)), between);
+			Assertions.assertEquals(between, second.between(first));
+			if (!first.equals(second)) {
+				Assertions.assertEquals(first.compareTo(second) > 0 ? first : second, (first.compareTo(second) > 0 ? second : first).plus(between));
+			}
+		}
+		
+		// Years out of the linear range
+		var far  = Times.of(Digit.MAX - 1, 3, 1);
+		var near = Times.of(Digit.MAX - 3, 5, 30);
+		Assertions.assertEquals(Times.of(1, 9, 1), far.between(near));
+		Assertions.assertEquals(far, near.plus(far.between(near)));
+	}
+	
+	@Test
+	public void testBetweenIn() {
+		var now       = Times.of(2024, 5, 6, 14, 50);
+		var yesterday = Times.of(2024, 5, 5);
+		Assertions.assertEquals(38 * 60 * 60 * 1000L + 50 * 60 * 1000L, now.betweenMillis(yesterday));
+		Assertions.assertEquals(now.betweenMillis(yesterday), yesterday.betweenMillis(now));
+		Assertions.assertEquals(38, now.betweenIn(yesterday, Hour.class));
+		Assertions.assertEquals(1, now.betweenIn(yesterday, Day.class));
+		Assertions.assertEquals(0, now.betweenIn(yesterday, Month.class));
+		Assertions.assertEquals(2330, now.betweenIn(yesterday, Minute.class));
+		Assertions.assertEquals(12, Times.of(2024, 2, 30).betweenIn(Times.of(2023, 2, 30), Month.class));
+		Assertions.assertEquals(360, Times.of(2024, 2, 30).betweenIn(Times.of(2023, 2, 30), Day.class));
+		Assertions.assertEquals(0, now.betweenMillis(now.copy()));
+		Assertions.assertThrows(ArithmeticException.class, () -> Times.of(Digit.MAX).betweenMillis(now));
+	}
+	
+	@Test
+	public void testEpochMillis() {
+		Assertions.assertEquals(Times.of(1970), Times.ofEpochMillis(0));
+		Assertions.assertEquals(0, Times.of(1970).toEpochMillis());
+		Assertions.assertEquals(-1, Times.of(1969, 12, 30, 23, 59, 59, 999).toEpochMillis());
+		Assertions.assertEquals(30L * 24 * 60 * 60 * 1000, Times.of(1970, 2, 1).toEpochMillis());
+		Assertions.assertEquals(Times.of(2024, 2, 30, 14, 50), Times.ofEpochMillis(Times.of(2024, 2, 30, 14, 50).toEpochMillis()));
+		
+		var random = new Random(1970);
+		for (int i = 0; i < 10_000; i++) {
+			var time = Times.of(random.nextInt(592_000_000) - 296_000_000, random.nextInt(12) + 1, random.nextInt(30) + 1, random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000));
+			Assertions.assertEquals(time, Times.ofEpochMillis(time.toEpochMillis()));
+			if (PackedTimes.isPackable(time.getYear().getValue())) Assertions.assertEquals(time, PackedTimes.ofPacked(PackedTimes.pack(time)));
+			
+			long millis = random.nextLong();
+			Assertions.assertEquals(millis, Times.ofEpochMillis(millis).toEpochMillis());
+		}
+		Assertions.assertEquals(Long.MAX_VALUE, Times.ofEpochMillis(Long.MAX_VALUE).toEpochMillis());
+		Assertions.assertEquals(Long.MIN_VALUE, Times.ofEpochMillis(Long.MIN_VALUE).toEpochMillis());
+		Assertions.assertThrows(ArithmeticException.class, () -> Times.of(Digit.MAX).toEpochMillis());
+	}
+	
+	@Test
+	public void testNowFast() {
+		var now     = Times.of(LocalDateTime.now());
+		var nowFast = Times.nowFast();
+		Assertions.assertTrue(nowFast.compareTo(now) >= 0);
+		Assertions.assertTrue(nowFast.betweenMillis(now) < 1000);
+	}
+	
+	@Test
+	public void testWith() {
+		var time = Times.of(2024, 5, 6, 14, 50);
+		for (var unit : DurationUnit.values()) {
+			var digit = TimeDigit.of(unit, 7);
+			Assertions.assertEquals(unit, digit.getUnit());
+			Assertions.assertNotEquals(time, time.with(digit));
+			Assertions.assertEquals(PackedTimes.of(time).with(digit), time.with(digit));
+			Assertions.assertEquals(time.plus(Duration.of(unit, 7)), time.plus(unit, 7));
+			Assertions.assertEquals(PackedTimes.of(time).plus(unit, 7), time.plus(digit));
+		}
+	}
+	
+	@Test
+	public void testHashCode() {
+		var digits    = Times.of(2024, 5, 6, 14, 50, 30, 500);
+		var packed    = PackedTimes.of(digits);
+		var immutable = ImmutableTimes.of(digits);
+		Assertions.assertEquals(digits, packed);
+		Assertions.assertEquals(digits.hashCode(), packed.hashCode());
+		Assertions.assertEquals(digits.hashCode(), immutable.hashCode());
+		
+		// A changed digit is equal to and has the same hash code of a new digit with the same value
+		var hour = TimeDigit.hour(14);
+		hour.increment();
+		Assertions.assertEquals(TimeDigit.hour(15), hour);
+		Assertions.assertEquals(TimeDigit.hour(15).hashCode(), hour.hashCode());
+		Assertions.assertEquals(Digit.of(15, 0, 23).hashCode(), hour.hashCode());
+		
+		var set = new HashSet<Times>();
+		set.add(digits);
+		digits.getMinute().increment();
+		Assertions.assertEquals(Times.of(2024, 5, 6, 14, 51, 30, 500).hashCode(), digits.hashCode());
+		Assertions.assertFalse(set.contains(packed));
+		set.add(packed);
+		Assertions.assertTrue(set.contains(ImmutableTimes.of(packed)));
+	}
+	
+	@Test
+	public void testTruncatedTo() {
+		var time = Times.of(2024, 5, 6, 14, 50, 30, 500);
+		Assertions.assertEquals(time, time.truncatedTo(DurationUnit.MILLISECOND));
+		Assertions.assertEquals(Times.of(2024, 5, 6, 14, 50, 30, 0), time.truncatedTo(DurationUnit.SECOND));
+		Assertions.assertEquals(Times.of(2024, 5, 6, 14, 50), time.truncatedTo(Minute.class));
+		Assertions.assertEquals(Times.of(2024, 5, 6, 14, 0), time.truncatedTo(DurationUnit.HOUR));
+		Assertions.assertEquals(Times.of(2024, 5, 6), time.truncatedTo(DurationUnit.DAY));
+		Assertions.assertEquals(Times.of(2024, 5, 1), time.truncatedTo(DurationUnit.MONTH));
+		Assertions.assertEquals(Times.of(2024), time.truncatedTo(DurationUnit.YEAR));
+		
+		var random = new Random(25);
+		for (int i = 0; i < 1000; i++) {
+			var digits = Times.of(random.nextInt(4000) - 2000, random.nextInt(12) + 1, random.nextInt(30) + 1, random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000));
+			for (var unit : DurationUnit.values()) {
+				var expected = digits.truncatedTo(unit);
+				Assertions.assertEquals(expected, PackedTimes.of(digits).truncatedTo(unit));
+				Assertions.assertEquals(expected, ImmutableTimes.of(digits).truncatedTo(unit));
+				Assertions.assertEquals(expected, withDefaults(digits).truncatedTo(unit));
+				// The epoch milliseconds of the truncated time are aligned to the unit
+				Assertions.assertEquals(Math.floorDiv(digits.toEpochMillis(), unit.getMillis()) * unit.getMillis(), expected.toEpochMillis());
+			}
+		}
+		var immutable = ImmutableTimes.of(Times.of(2024, 5, 6));
+		Assertions.assertSame(immutable, immutable.truncatedTo(DurationUnit.DAY));
+	}
+	
+	/**
+	 * Returns a {@code Times} that implements only the abstract methods with the given time, so its default methods are used.
+	 */
+	private static Times withDefaults(Times times) {
+		return (Times) Proxy.newProxyInstance(Times.class.getClassLoader(), new Class<?>[]{Times.class}, (proxy, method, args) ->
+				method.isDefault() ? InvocationHandler.invokeDefault(proxy, method, args) : method.invoke(times, args));
+	}
+	
 }
@@ -0,0 +1,39 @@
+package tr.xyz;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tr.xyz.durations.Duration;
+import tr.xyz.times.Times;
+import tr.xyz.times.TimesBulk;
+import tr.xyz.times.TimesSeries;
+
+import java.util.Random;
+
+public class TestTimesBulk {
+	@Test
+	public void testBulk() {
+		var random = new Random(14);
+		var series = new TimesSeries();
+		for (int i = 0; i < 20_000; i++) {
+			series.add(Times.of(random.nextInt(4000) - 2000, random.nextInt(12) + 1, random.nextInt(30) + 1, random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000)));
+		}
+		var reference = Times.of(2024, 5, 6, 14, 50, 30, 500);
+		var duration  = Duration.ofMinutes(-1_000_000);
+		var addend    = Times.of(1, 11, 29, 23, 59, 59, 999);
+
+		var between = TimesBulk.between(series, reference);
+		var millis  = TimesBulk.betweenMillis(series, reference);
+		var plusD   = TimesBulk.plus(series, duration);
+		var plusT   = TimesBulk.plus(series, addend);
+		for (int i = 0; i < series.size(); i++) {
+			var times = series.get(i).toTimeDigits();
+			Assertions.assertEquals(times.between(reference), between.get(i));
+			Assertions.assertEquals(times.betweenMillis(reference), millis[i]);
+			Assertions.assertEquals(times.plus(duration), plusD.get(i));
+			Assertions.assertEquals(times.plus(addend), plusT.get(i));
+		}
+
+		Assertions.assertEquals(Times.of(0, 1, 1), TimesBulk.between(TimesSeries.ofPacked(series.getPacked(0)), series.get(0)).get(0));
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> TimesBulk.plus(new long[4], 0, 5, duration, new long[5]));
+	}
+}
@@ -0,0 +1,60 @@
+package tr.xyz;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tr.xyz.times.Times;
+import tr.xyz.times.TimesFile;
+import tr.xyz.times.TimesSeries;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+public class TestTimesFile {
+	@Test
+	public void testWriteAndRead(@TempDir Path dir) throws IOException {
+		var random = new Random(15);
+		var series = new TimesSeries();
+		for (int i = 0; i < 20_000; i++) {
+			series.add(Times.of(random.nextInt(4000) - 2000, random.nextInt(12) + 1, random.nextInt(30) + 1, random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000)));
+		}
+		var path = dir.resolve("times.bin");
+		TimesFile.write(path, series);
+		Assertions.assertEquals(TimesFile.HEADER_SIZE + 8L * series.size(), Files.size(path));
+
+		try (var file = TimesFile.open(path)) {
+			Assertions.assertEquals(series.size(), file.size());
+			for (int i = 0; i < series.size(); i++) Assertions.assertEquals(series.getPacked(i), file.getPacked(i));
+			Assertions.assertEquals(series.get(123), file.get(123));
+			Assertions.assertEquals(series, file.read(0, series.size()));
+			Assertions.assertThrows(IndexOutOfBoundsException.class, () -> file.getPacked(series.size()));
+		}
+
+		var empty = dir.resolve("empty.bin");
+		TimesFile.write(empty, new TimesSeries());
+		try (var file = TimesFile.open(empty)) {
+			Assertions.assertEquals(0, file.size());
+		}
+	}
+
+	@Test
+	public void testInvalidFiles(@TempDir Path dir) throws IOException {
+		var path = dir.resolve("invalid.bin");
+
+		Files.write(path, new byte[8]);
+		Assertions.assertThrows(IOException.class, () -> TimesFile.open(path));
+
+		Files.write(path, ByteBuffer.allocate(TimesFile.HEADER_SIZE).putInt(0xCAFEBABE).array());
+		Assertions.assertThrows(IOException.class, () -> TimesFile.open(path));
+
+		Files.write(path, ByteBuffer.allocate(TimesFile.HEADER_SIZE).putInt(TimesFile.MAGIC).putShort((short) 2).array());
+		Assertions.assertThrows(IOException.class, () -> TimesFile.open(path));
+
+		// Header claims more records than the file has
+		Files.write(path, ByteBuffer.allocate(TimesFile.HEADER_SIZE + 8).putInt(TimesFile.MAGIC).putShort(TimesFile.VERSION).putShort((short) 0).putLong(2).array());
+		Assertions.assertThrows(IOException.class, () -> TimesFile.open(path));
+	}
+}
@@ -0,0 +1,52 @@
+package tr.xyz;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tr.xyz.digit.Digit;
+import tr.xyz.durations.Duration;
+import tr.xyz.times.PackedTimes;
+import tr.xyz.times.Times;
+import tr.xyz.times.TimesFormatter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+public class TestTimesFormatter {
+	private static String expected(Times t) {
+		return String.format("%d-%d-%d %02d:%02d:%02d:%03d", t.getYear().getValue(), t.getMonth().getValue(), t.getDay().getValue(), t.getHour().getValue(), t.getMinute().getValue(), t.getSecond().getValue(), t.getMillisecond().getValue());
+	}
+
+	@Test
+	public void testFormat() throws IOException {
+		var random = new Random(17);
+		long[] years = {Digit.MIN, -2024, -1, 0, 7, 2024, Digit.MAX, Long.MIN_VALUE, Long.MAX_VALUE};
+		for (long year : years) {
+			var time = Times.of(year, random.nextInt(12) + 1, random.nextInt(30) + 1, random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000));
+			Assertions.assertEquals(expected(time), TimesFormatter.format(time));
+			Assertions.assertEquals(expected(time), time.toString());
+		}
+
+		// Only the millisecond changes, the cached prefix is reused
+		var time = Times.of(2024, 5, 6, 14, 50, 59, 0);
+		for (int ms = 0; ms < 1000; ms += 7) {
+			var next = time.plus(Duration.ofMilliseconds(ms));
+			Assertions.assertEquals(expected(next), TimesFormatter.format(next));
+		}
+		var packed = PackedTimes.of(time);
+		Assertions.assertEquals(expected(time), packed.toString());
+		Assertions.assertEquals(expected(time.plus(Duration.ofMilliseconds(1001))), TimesFormatter.format(time.plus(Duration.ofMilliseconds(1001))));
+
+		var builder = new StringBuilder("at ");
+		Assertions.assertEquals("at " + expected(time), TimesFormatter.format(time, builder).toString());
+		var writer = new StringWriter();
+		Assertions.assertEquals(expected(time), TimesFormatter.format(time, writer).toString());
+
+		byte[] bytes  = new byte[TimesFormatter.MAX_LENGTH + 2];
+		int    length = TimesFormatter.format(Times.of(Digit.MIN, 12, 30, 23, 59, 59, 999), bytes, 2);
+		Assertions.assertEquals(TimesFormatter.MAX_LENGTH, length);
+		Assertions.assertEquals(expected(Times.of(Digit.MIN, 12, 30, 23, 59, 59, 999)), new String(bytes, 2, length, StandardCharsets.US_ASCII));
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> TimesFormatter.format(time, new byte[10], 0));
+	}
+}
@@ -0,0 +1,60 @@
+package tr.xyz;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tr.xyz.times.PackedTimes;
+import tr.xyz.times.Times;
+import tr.xyz.times.TimesIndex;
+import tr.xyz.times.TimesSeries;
+
+import java.util.Random;
+
+public class TestTimesIndex {
+	@Test
+	public void testQueries() {
+		var random = new Random(13);
+		for (int size : new int[]{0, 1, 2, 7, 31, 32, 33, 1000}) {
+			var series = new TimesSeries();
+			for (int i = 0; i < size; i++) series.add(Times.of(2024, random.nextInt(3) + 1, random.nextInt(30) + 1, random.nextInt(24), 0));
+			var index = TimesIndex.of(series);
+			Assertions.assertEquals(size, index.size());
+
+			for (int rank = 0; rank < size; rank++) {
+				Assertions.assertEquals(series.get(index.getPayload(rank)), index.getTimes(rank));
+				if (rank > 0) Assertions.assertTrue(index.getPacked(rank - 1) <= index.getPacked(rank));
+			}
+
+			for (int q = 0; q < 200; q++) {
+				var from = Times.of(2024, random.nextInt(4) + 1, random.nextInt(30) + 1, random.nextInt(24), 0);
+				var to   = Times.of(2024, random.nextInt(4) + 1, random.nextInt(30) + 1, random.nextInt(24), 0);
+
+				int count = 0;
+				int floor = -1;
+				int ceiling = -1;
+				for (int i = 0; i < size; i++) {
+					var times = series.get(i);
+					if (times.compareTo(from) >= 0 && times.compareTo(to) < 0) count++;
+					if (times.compareTo(from) <= 0 && (floor < 0 || times.compareTo(series.get(floor)) >= 0)) floor = i;
+					if (times.compareTo(from) >= 0 && (ceiling < 0 || times.compareTo(series.get(ceiling)) < 0)) ceiling = i;
+				}
+				Assertions.assertEquals(count, index.count(from, to));
+				Assertions.assertEquals(count, index.range(from, to).length);
+				for (int payload : index.range(from, to)) Assertions.assertTrue(series.get(payload).compareTo(from) >= 0 && series.get(payload).compareTo(to) < 0);
+				Assertions.assertEquals(floor < 0 ? null : series.get(floor), index.floor(from) < 0 ? null : index.getTimes(index.floor(from)));
+				Assertions.assertEquals(ceiling < 0 ? null : series.get(ceiling), index.ceiling(from) < 0 ? null : index.getTimes(index.ceiling(from)));
+			}
+
+			Assertions.assertEquals(size, index.count(Times.of(PackedTimes.MIN_YEAR - 1), Times.of(PackedTimes.MAX_YEAR + 1)));
+		}
+	}
+
+	@Test
+	public void testStablePayloads() {
+		long   key   = PackedTimes.pack(Times.of(2024));
+		var    index = TimesIndex.of(new long[]{key + 1, key, key, key - 1, key}, new int[]{0, 1, 2, 3, 4});
+		Assertions.assertArrayEquals(new int[]{3, 1, 2, 4, 0}, new int[]{index.getPayload(0), index.getPayload(1), index.getPayload(2), index.getPayload(3), index.getPayload(4)});
+		Assertions.assertEquals(1, index.lowerBound(key));
+		Assertions.assertEquals(4, index.upperBound(key));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> TimesIndex.of(new long[1], new int[2]));
+	}
+}
@@ -0,0 +1,82 @@
+package tr.xyz;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tr.xyz.digit.Digit;
+import tr.xyz.times.PackedTimes;
+import tr.xyz.times.Times;
+import tr.xyz.times.TimesKey;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class TestTimesKey {
+	@Test
+	public void testOrder() {
+		var random = new Random(16);
+		long[] years = {Digit.MIN, Digit.MIN + 1, PackedTimes.MIN_YEAR - 1, -2024, -1, 0, 1, 2024, PackedTimes.MAX_YEAR + 1, Digit.MAX - 1, Digit.MAX};
+		List<Times> times = new ArrayList<>();
+		for (long year : years) {
+			for (int i = 0; i < 20; i++) {
+				times.add(Times.of(year, random.nextInt(12) + 1, random.nextInt(30) + 1, random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000)));
+			}
+		}
+		times.add(Times.of(2024, 12, 30, 23, 59, 59, 999));
+		times.add(Times.of(2025, 1, 1, 0, 0, 0, 0));
+
+		for (var a : times) {
+			byte[] keyA = TimesKey.encode(a);
+			Assertions.assertEquals(a, TimesKey.decode(keyA, 0));
+			for (var b : times) {
+				int expected = Integer.signum(a.compareTo(b));
+				Assertions.assertEquals(expected, Integer.signum(Arrays.compareUnsigned(keyA, TimesKey.encode(b))), () -> a + " <> " + b);
+			}
+		}
+	}
+
+	@Test
+	public void testBuffersAndPacked() {
+		var time   = Times.of(-5, 2, 30, 1, 2, 3, 4);
+		var packed = PackedTimes.of(time);
+		var buffer = ByteBuffer.allocate(TimesKey.KEY_SIZE * 2);
+		TimesKey.encode(time, buffer);
+		TimesKey.encode(packed, buffer);
+		Assertions.assertEquals(TimesKey.KEY_SIZE * 2, buffer.position());
+		Assertions.assertEquals(time, TimesKey.decode(buffer, 0));
+		Assertions.assertEquals(packed.getPacked(), TimesKey.decodePacked(buffer, TimesKey.KEY_SIZE));
+		Assertions.assertEquals(-5, TimesKey.decodeYear(buffer, TimesKey.KEY_SIZE));
+
+		byte[] array = new byte[TimesKey.KEY_SIZE + 3];
+		TimesKey.encode(packed, array, 3);
+		Assertions.assertArrayEquals(Arrays.copyOfRange(buffer.array(), 0, TimesKey.KEY_SIZE), Arrays.copyOfRange(array, 3, array.length));
+		Assertions.assertEquals(packed.getPacked(), TimesKey.decodePacked(array, 3));
+
+		Assertions.assertThrows(IllegalArgumentException.class, () -> TimesKey.decodePacked(TimesKey.encode(Times.of(Digit.MAX)), 0));
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> TimesKey.encode(time, new byte[TimesKey.KEY_SIZE], 1));
+	}
+
+	@Test
+	public void testLittleEndianBuffer() {
+		// The keys are big-endian whatever the order of the buffer is, so they sort and match the array keys
+		var time   = Times.of(2024, 5, 6, 14, 50, 30, 123);
+		var buffer = ByteBuffer.allocate(TimesKey.KEY_SIZE + 1).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.put((byte) 7);
+		TimesKey.encode(time, buffer);
+		Assertions.assertArrayEquals(TimesKey.encode(time), Arrays.copyOfRange(buffer.array(), 1, buffer.position()));
+		Assertions.assertEquals(time, TimesKey.decode(buffer, 1));
+		Assertions.assertEquals(2024, TimesKey.decodeYear(buffer, 1));
+		Assertions.assertEquals(PackedTimes.pack(time), TimesKey.decodePacked(buffer, 1));
+
+		var bigEndian = ByteBuffer.wrap(TimesKey.encode(time));
+		Assertions.assertEquals(TimesKey.decodePacked(bigEndian, 0), TimesKey.decodePacked(bigEndian.order(ByteOrder.LITTLE_ENDIAN), 0));
+
+		var full = ByteBuffer.allocate(TimesKey.KEY_SIZE - 1).order(ByteOrder.LITTLE_ENDIAN);
+		Assertions.assertThrows(BufferOverflowException.class, () -> TimesKey.encode(time, full));
+		Assertions.assertEquals(0, full.position());
+	}
+}
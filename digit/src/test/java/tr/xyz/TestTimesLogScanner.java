@@ -0,0 +1,57 @@
+package tr.xyz;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import tr.xyz.times.Times;
+import tr.xyz.times.TimesLogScanner;
+import tr.xyz.times.TimesSeries;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class TestTimesLogScanner {
+	@Test
+	public void testScan(@TempDir Path dir) throws IOException {
+		var random   = new Random(19);
+		var expected = new TimesSeries();
+		var text     = new StringBuilder();
+		int lines    = 0;
+		int skipped  = 0;
+		for (int i = 0; i < 2000; i++, lines++) {
+			if (random.nextInt(10) == 0) {
+				text.append("\tat tr.xyz.Some.method(Some.java:").append(i).append(")\n");
+				skipped++;
+				continue;
+			}
+			var time = Times.of(2024, random.nextInt(12) + 1, random.nextInt(30) + 1, random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000));
+			expected.add(time);
+			text.append(time).append(" INFO ").append("x".repeat(random.nextInt(80))).append('\n');
+		}
+		// The last line has no line break
+		text.append("2024-5-6 14:50:00:000 last");
+		expected.add(Times.of(2024, 5, 6, 14, 50, 0, 0));
+		lines++;
+
+		var file = dir.resolve("app.log");
+		Files.writeString(file, text, StandardCharsets.US_ASCII);
+
+		for (int chunkSize : new int[]{TimesLogScanner.MIN_CHUNK_SIZE, TimesLogScanner.MIN_CHUNK_SIZE + 7, 10_000, TimesLogScanner.DEFAULT_CHUNK_SIZE}) {
+			var result = TimesLogScanner.scan(file, ForkJoinPool.commonPool(), chunkSize);
+			Assertions.assertEquals(expected, result.series(), "chunk size " + chunkSize);
+			Assertions.assertEquals(lines, result.lines());
+			Assertions.assertEquals(skipped, result.skipped());
+			Assertions.assertEquals(Files.size(file), result.bytes());
+			Assertions.assertTrue(result.bytesPerSecond() > 0);
+		}
+
+		var empty = dir.resolve("empty.log");
+		Files.writeString(empty, "");
+		Assertions.assertEquals(0, TimesLogScanner.scan(empty).lines());
+		Assertions.assertThrows(IllegalArgumentException.class, () -> TimesLogScanner.scan(file, ForkJoinPool.commonPool(), 64));
+	}
+}
@@ -0,0 +1,56 @@
+package tr.xyz;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tr.xyz.times.PackedTimes;
+import tr.xyz.times.Times;
+import tr.xyz.times.TimesLongMap;
+
+import java.util.HashMap;
+import java.util.Random;
+
+public class TestTimesLongMap {
+	@Test
+	public void testRandom() {
+		var random   = new Random(24);
+		var map      = new TimesLongMap();
+		var expected = new HashMap<Long, Long>();
+		for (int i = 0; i < 200_000; i++) {
+			// A small key space, so the keys are added, found and removed many times
+			long packed = PackedTimes.pack(2024, random.nextInt(2) + 1, random.nextInt(30) + 1, random.nextInt(24), random.nextInt(60), 0, 0);
+			switch (random.nextInt(4)) {
+				case 0 -> {
+					map.putPacked(packed, i);
+					expected.put(packed, (long) i);
+				}
+				case 1 -> Assertions.assertEquals(expected.merge(packed, 3L, Long::sum), map.addToPacked(packed, 3));
+				case 2 -> Assertions.assertEquals(expected.remove(packed) != null, map.removePacked(packed));
+				default -> Assertions.assertEquals(expected.getOrDefault(packed, -1L), map.getPacked(packed, -1));
+			}
+			Assertions.assertEquals(expected.size(), map.size());
+		}
+		var seen = new HashMap<Long, Long>();
+		map.forEach(seen::put);
+		Assertions.assertEquals(expected, seen);
+	}
+
+	@Test
+	public void testTimes() {
+		var map  = new TimesLongMap(4);
+		var time = Times.of(2024, 5, 6, 14, 50);
+		map.addTo(time, 1);
+		map.addTo(PackedTimes.of(time), 1);
+		Assertions.assertEquals(2, map.get(time, 0));
+		Assertions.assertTrue(map.containsKey(PackedTimes.of(time)));
+		Assertions.assertEquals(0, map.get(Times.of(PackedTimes.MAX_YEAR + 1), 0));
+		Assertions.assertFalse(map.remove(Times.of(PackedTimes.MAX_YEAR + 1)));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> map.put(Times.of(PackedTimes.MAX_YEAR + 1), 1));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> map.putPacked(0, 1));
+		Assertions.assertEquals("{2024-5-6 14:50:00:000=2}", map.toString());
+		Assertions.assertTrue(map.remove(time));
+		Assertions.assertTrue(map.isEmpty());
+		map.put(time, 7);
+		map.clear();
+		Assertions.assertFalse(map.containsKey(time));
+	}
+}
@@ -0,0 +1,47 @@
+package tr.xyz;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tr.xyz.times.PackedTimes;
+import tr.xyz.times.Times;
+import tr.xyz.times.TimesObjectMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+public class TestTimesObjectMap {
+	@Test
+	public void testRandom() {
+		var random   = new Random(24);
+		var map      = new TimesObjectMap<String>();
+		var expected = new HashMap<Long, String>();
+		for (int i = 0; i < 200_000; i++) {
+			long packed = PackedTimes.pack(random.nextInt(3) - 1, random.nextInt(12) + 1, random.nextInt(30) + 1, random.nextInt(24), 0, 0, 0);
+			switch (random.nextInt(3)) {
+				case 0 -> Assertions.assertEquals(expected.put(packed, "v" + i), map.putPacked(packed, "v" + i));
+				case 1 -> Assertions.assertEquals(expected.remove(packed), map.removePacked(packed));
+				default -> Assertions.assertEquals(expected.get(packed), map.getPacked(packed));
+			}
+			Assertions.assertEquals(expected.size(), map.size());
+		}
+		var seen = new HashMap<Long, String>();
+		map.forEach(seen::put);
+		Assertions.assertEquals(expected, seen);
+	}
+
+	@Test
+	public void testTimes() {
+		var map  = new TimesObjectMap<List<String>>();
+		var time = Times.of(2024, 5, 6, 14, 50);
+		map.computeIfAbsent(time, packed -> new ArrayList<>()).add("a");
+		map.computeIfAbsent(PackedTimes.of(time), packed -> new ArrayList<>()).add("b");
+		Assertions.assertEquals(List.of("a", "b"), map.get(time));
+		Assertions.assertNull(map.get(Times.of(PackedTimes.MIN_YEAR - 1)));
+		Assertions.assertThrows(NullPointerException.class, () -> map.put(time, null));
+		Assertions.assertEquals(List.of("a", "b"), map.remove(time));
+		Assertions.assertNull(map.remove(time));
+		Assertions.assertTrue(map.isEmpty());
+	}
+}
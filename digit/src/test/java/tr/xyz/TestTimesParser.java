@@ -0,0 +1,77 @@
+package tr.xyz;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tr.xyz.digit.Digit;
+import tr.xyz.times.PackedTimes;
+import tr.xyz.times.Times;
+import tr.xyz.times.TimesParser;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+public class TestTimesParser {
+	@Test
+	public void testRoundTrip() {
+		var random = new Random(18);
+		long[] years = {Digit.MIN, -2024, -1, 0, 7, 2024, PackedTimes.MAX_YEAR, Digit.MAX};
+		for (long year : years) {
+			for (int i = 0; i < 50; i++) {
+				var time = Times.of(year, random.nextInt(12) + 1, random.nextInt(30) + 1, random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000));
+				var text = time.toString();
+				Assertions.assertEquals(time, Times.parse(text));
+				byte[] bytes = ("  " + text).getBytes(StandardCharsets.US_ASCII);
+				Assertions.assertEquals(time, Times.parse(bytes, 2, bytes.length - 2));
+				if (PackedTimes.isPackable(year)) {
+					Assertions.assertEquals(PackedTimes.pack(time), TimesParser.parsePacked(text));
+					Assertions.assertEquals(PackedTimes.pack(time), TimesParser.parsePacked(bytes, 2, bytes.length - 2));
+				}
+			}
+		}
+		// The digit calendar has 30 days in every month
+		Assertions.assertEquals(Times.of(2024, 2, 30, 1, 2, 3, 4), Times.parse("2024-2-30 01:02:03:004"));
+		Assertions.assertEquals(Times.of(2024, 2, 3, 1, 2, 3, 4), Times.parse("2024-02-03 01:02:03:004"));
+
+		byte[] line = "2024-5-6 14:50:00:123 INFO started".getBytes(StandardCharsets.US_ASCII);
+		Assertions.assertEquals(PackedTimes.pack(Times.of(2024, 5, 6, 14, 50, 0, 123)), TimesParser.parsePackedPrefix(line, 0, line.length));
+	}
+
+	@Test
+	public void testErrors() {
+		assertError("", 0);
+		assertError("x2024-5-6 14:50:00:000", 0);
+		assertError("2024", 4);
+		assertError("2024-13-6 14:50:00:000", 5);
+		assertError("2024-5-31 14:50:00:000", 7);
+		assertError("2024-5-6T14:50:00:000", 8);
+		assertError("2024-5-6 24:50:00:000", 9);
+		assertError("2024-5-6 14:60:00:000", 12);
+		assertError("2024-5-6 14:50.00:000", 14);
+		assertError("2024-5-6 14:50:00:0", 19);
+		assertError("2024-5-6 14:50:00:00x", 20);
+		assertError("2024-5-6 14:50:00:000 ", 21);
+		assertError("2024-5-6 14:5ğ:00:000", 13);
+		assertError("99999999999999999999-5-6 14:50:00:000", 0);
+		Assertions.assertThrows(DateTimeParseException.class, () -> TimesParser.parsePacked(Times.of(PackedTimes.MAX_YEAR + 1).toString()));
+	}
+
+	@Test
+	public void testErrorTextInRange() {
+		// The message shows only the parsed range, not the bytes after it
+		byte[] bytes = "2024-5-6 14:50:00:00|SECRET".getBytes(StandardCharsets.US_ASCII);
+		var    e     = Assertions.assertThrows(DateTimeParseException.class, () -> TimesParser.parsePacked(bytes, 0, 20));
+		Assertions.assertEquals("2024-5-6 14:50:00:00", e.getParsedString());
+		Assertions.assertEquals(20, e.getErrorIndex());
+	}
+
+	private static void assertError(String text, int index) {
+		var e = Assertions.assertThrows(DateTimeParseException.class, () -> Times.parse(text), text);
+		Assertions.assertEquals(index, e.getErrorIndex(), text);
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length == text.length()) {
+			e = Assertions.assertThrows(DateTimeParseException.class, () -> Times.parse(bytes, 0, bytes.length), text);
+			Assertions.assertEquals(index, e.getErrorIndex(), text);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package tr.xyz;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tr.xyz.times.PackedTimes;
+import tr.xyz.times.Times;
+import tr.xyz.times.TimesSeries;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+public class TestTimesSeries {
+	@Test
+	public void testSeries() {
+		var random = new Random(12);
+		var series = new TimesSeries();
+		List<Times> list = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			var times = Times.of(random.nextInt(4000) - 2000, random.nextInt(12) + 1, random.nextInt(30) + 1, random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000));
+			series.add(times);
+			list.add(times);
+		}
+		Assertions.assertEquals(1000, series.size());
+		for (int i = 0; i < list.size(); i++) Assertions.assertEquals(list.get(i), series.get(i));
+
+		Assertions.assertEquals(Collections.min(list), series.min());
+		Assertions.assertEquals(Collections.max(list), series.max());
+
+		series.sort();
+		Collections.sort(list);
+		Assertions.assertTrue(series.isSorted());
+		var iterator = series.packedIterator();
+		for (var times : list) Assertions.assertEquals(times, PackedTimes.ofPacked(iterator.nextLong()));
+		Assertions.assertFalse(iterator.hasNext());
+
+		var copy = TimesSeries.ofPacked(series.toPackedArray());
+		Assertions.assertEquals(series, copy);
+		copy.set(0, Times.of(3000));
+		Assertions.assertNotEquals(series, copy);
+
+		series.clear();
+		Assertions.assertTrue(series.isEmpty());
+		Assertions.assertThrows(NoSuchElementException.class, series::min);
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () -> series.get(0));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> series.add(Times.of(PackedTimes.MAX_YEAR + 1)));
+	}
+}
@@ -0,0 +1,71 @@
+package tr.xyz;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tr.xyz.times.Times;
+import tr.xyz.times.ZoneTable;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+public class TestZoneTable {
+	private static final String[] ZONES = {"UTC", "Europe/Istanbul", "America/New_York", "Australia/Lord_Howe", "Asia/Kolkata", "America/Sao_Paulo"};
+
+	@Test
+	public void testOfEpochMillis() {
+		var  random = new Random(22);
+		long from   = LocalDateTime.of(1850, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC) * 1000L;
+		long to     = LocalDateTime.of(2300, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC) * 1000L;
+		for (String id : ZONES) {
+			var zone  = ZoneId.of(id);
+			var table = ZoneTable.of(zone);
+			for (int i = 0; i < 20_000; i++) {
+				long epochMillis = from + (long) (random.nextDouble() * (to - from));
+				var  instant     = Instant.ofEpochMilli(epochMillis);
+				Assertions.assertEquals(Times.of(LocalDateTime.ofInstant(instant, zone)), table.ofInstant(instant), () -> id + " " + instant);
+				Assertions.assertEquals(zone.getRules().getOffset(instant).getTotalSeconds() * 1000, table.offsetMillis(epochMillis));
+			}
+		}
+	}
+
+	@Test
+	public void testToEpochMillis() {
+		var random = new Random(22);
+		for (String id : ZONES) {
+			var zone  = ZoneId.of(id);
+			var table = ZoneTable.of(zone);
+			for (int i = 0; i < 20_000; i++) {
+				var dateTime = LocalDateTime.of(1850 + random.nextInt(450), random.nextInt(12) + 1, random.nextInt(28) + 1, random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000) * 1_000_000);
+				Assertions.assertEquals(dateTime.atZone(zone).toInstant(), table.toInstant(Times.of(dateTime)), () -> id + " " + dateTime);
+			}
+		}
+	}
+
+	@Test
+	public void testGapAndOverlap() {
+		var zone  = ZoneId.of("America/New_York");
+		var table = ZoneTable.of(zone);
+		// 2024-03-10 02:30 does not exist, 2024-11-03 01:30 exists twice
+		for (var dateTime : new LocalDateTime[]{
+				LocalDateTime.of(2024, 3, 10, 2, 0),
+				LocalDateTime.of(2024, 3, 10, 2, 30),
+				LocalDateTime.of(2024, 3, 10, 3, 0),
+				LocalDateTime.of(2024, 11, 3, 0, 59),
+				LocalDateTime.of(2024, 11, 3, 1, 0),
+				LocalDateTime.of(2024, 11, 3, 1, 30),
+				LocalDateTime.of(2024, 11, 3, 2, 0)}) {
+			Assertions.assertEquals(dateTime.atZone(zone).toInstant(), table.toInstant(Times.of(dateTime)), dateTime::toString);
+		}
+	}
+
+	@Test
+	public void testEpoch() {
+		var rules    = ZoneId.systemDefault().getRules();
+		var expected = Times.of(LocalDateTime.ofEpochSecond(0, 0, rules.getOffset(Instant.now())));
+		Assertions.assertEquals(expected, Times.epoch());
+		Assertions.assertSame(ZoneTable.systemDefault(), ZoneTable.systemDefault());
+	}
+}
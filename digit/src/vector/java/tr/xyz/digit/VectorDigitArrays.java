@@ -0,0 +1,34 @@
+package tr.xyz.digit;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * The {@link DigitArrays} loop with the Vector API, it is loaded by {@link DigitArrays} only when
+ * the {@code jdk.incubator.vector} module is present.
+ * <p>
+ * The range check of a vector is a compare of each limit. A vector in the range is copied as it is with zero cycle counts,
+ * a vector with a lane out of the range is given to the scalar loop, which divides only the lanes out of the range.
+ */
+final class VectorDigitArrays implements DigitArrays.Kernel {
+	private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+	@Override
+	public void wrap(long[] values, int fromIndex, int toIndex, long min, long max, long[] valuesOut, long[] cycleCounts) {
+		final LongVector zero   = LongVector.zero(SPECIES);
+		final int        length = SPECIES.length();
+
+		int i = fromIndex;
+		for (int bound = fromIndex + SPECIES.loopBound(toIndex - fromIndex); i < bound; i += length) {
+			LongVector vector = LongVector.fromArray(SPECIES, values, i);
+			if (vector.compare(VectorOperators.LT, min).or(vector.compare(VectorOperators.GT, max)).anyTrue()) {
+				DigitArrays.wrapScalar(values, i, i + length, min, max, valuesOut, cycleCounts);
+				continue;
+			}
+			vector.intoArray(valuesOut, i);
+			if (cycleCounts != null) zero.intoArray(cycleCounts, i);
+		}
+		DigitArrays.wrapScalar(values, i, toIndex, min, max, valuesOut, cycleCounts);
+	}
+}